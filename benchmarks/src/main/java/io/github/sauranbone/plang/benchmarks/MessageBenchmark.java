@@ -0,0 +1,99 @@
+package io.github.sauranbone.plang.benchmarks;
+
+import io.github.sauranbone.plang.core.map.DataBindMap;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the end-to-end transformation of a message, including the
+ * allocation of its binder, using positional, named and type boundaries,
+ * both on a single thread and contended by multiple threads.
+ *
+ * @author agent
+ * @version 16:26 CEST, 17.10.2026
+ * @see Message#transform(io.github.sauranbone.plang.core.map.DataBinder)
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    private Message message;
+    private User user;
+    private Channel channel;
+
+    @Setup
+    public void setup() {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        lexicon.set(Placeholder.of("user", User.class, u -> u.name));
+        lexicon.set(Placeholder.of("channel", Channel.class, c -> c.name));
+        Language language = new Language("Benchmark", "bench", lexicon);
+        language.setErrorHandler(error -> { });
+        //Static placeholder is last, so that it is not shadowed by an index
+        message = new Message("Welcome {user}, you have been invited "
+                + "to {channel}. Have fun! {prefix}", language);
+        user = new User("Vinzent");
+        channel = new Channel("general");
+    }
+
+    @Benchmark
+    public String index() {
+        return message.transform(DataBindMap.index(user.name, channel.name));
+    }
+
+    @Benchmark
+    public String named() {
+        return message.transform(new DataBindMap()
+                .bind("user", user.name).bind("channel", channel.name));
+    }
+
+    @Benchmark
+    public String types() {
+        return message.transform(DataBindMap.types(user, channel));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String indexContended() {
+        return index();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String namedContended() {
+        return named();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String typesContended() {
+        return types();
+    }
+
+    public static final class User {
+        final String name;
+
+        User(String name) {
+            this.name = name;
+        }
+    }
+
+    public static final class Channel {
+        final String name;
+
+        Channel(String name) {
+            this.name = name;
+        }
+    }
+
+}
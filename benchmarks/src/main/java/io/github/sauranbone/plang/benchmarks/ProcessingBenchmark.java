@@ -0,0 +1,89 @@
+package io.github.sauranbone.plang.benchmarks;
+
+import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.parsing.MessageToken;
+import io.github.sauranbone.plang.core.parsing.ParsedTokens;
+import io.github.sauranbone.plang.core.parsing.impl.DefaultParser;
+import io.github.sauranbone.plang.core.parsing.impl.DefaultTransformer;
+import io.github.sauranbone.plang.core.parsing.impl.NormalLexer;
+import io.github.sauranbone.plang.core.specific.Language;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks every processing stage of a message on its own, namely
+ * lexing, parsing and transforming, for templates of different lengths and
+ * placeholder densities.
+ *
+ * @author agent
+ * @version 16:26 CEST, 17.10.2026
+ * @see Templates
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessingBenchmark {
+
+    @Param({"64", "1024", "8192"})
+    public int length;
+
+    //The amount of words per placeholder, thus lower is denser
+    @Param({"2", "8"})
+    public int spacing;
+
+    private Language language;
+    private String content;
+    private List<MessageToken> tokens;
+    private ParsedTokens parsed;
+    private DataBinder data;
+
+    @Setup
+    public void setup() {
+        language = new Language("Benchmark", "bench");
+        language.setErrorHandler(error -> { });
+        content = Templates.generate(length, spacing);
+        tokens = NormalLexer.DEFAULT_LEXER.tokenize(language, content);
+        parsed = DefaultParser.SINGLETON.parse(language, tokens);
+        data = Templates.index(length, spacing);
+    }
+
+    @Benchmark
+    public List<MessageToken> tokenize() {
+        return NormalLexer.DEFAULT_LEXER.tokenize(language, content);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<MessageToken> tokenizeContended() {
+        return NormalLexer.DEFAULT_LEXER.tokenize(language, content);
+    }
+
+    @Benchmark
+    public ParsedTokens parse() {
+        return DefaultParser.SINGLETON.parse(language, tokens);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ParsedTokens parseContended() {
+        return DefaultParser.SINGLETON.parse(language, tokens);
+    }
+
+    @Benchmark
+    public String transform() {
+        return DefaultTransformer.SINGLETON.transform(parsed, language, content, data);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String transformContended() {
+        return DefaultTransformer.SINGLETON.transform(parsed, language, content, data);
+    }
+
+}
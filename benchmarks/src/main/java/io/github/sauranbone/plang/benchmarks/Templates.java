@@ -0,0 +1,74 @@
+package io.github.sauranbone.plang.benchmarks;
+
+import io.github.sauranbone.plang.core.map.DataBindMap;
+
+/**
+ * Generator of message templates varying in their length and their
+ * density of placeholders, that are used throughout the benchmarks.
+ *
+ * @author agent
+ * @version 16:26 CEST, 17.10.2026
+ * @since 1.0
+ */
+final class Templates {
+
+    private static final String[] WORDS = {"lorem", "ipsum", "dolor", "sit",
+            "amet", "consectetur", "adipiscing", "elit", "sed", "do"};
+
+    private Templates() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns a template of about {@code length} characters, in which
+     * every {@code spacing}-th word is a placeholder named {@code p0},
+     * {@code p1} and so on.
+     *
+     * @param length  the target length of the template
+     * @param spacing the amount of words per placeholder
+     * @return the generated template
+     */
+    static String generate(int length, int spacing) {
+        StringBuilder builder = new StringBuilder(length + 16);
+        for (int word = 0, placeholder = 0; builder.length() < length; word++) {
+            if (word > 0) builder.append(' ');
+            if (word % spacing == spacing - 1) {
+                builder.append("{p").append(placeholder++).append('}');
+            } else builder.append(WORDS[word % WORDS.length]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the amount of placeholders that a template of the given
+     * {@code length} and {@code spacing} contains.
+     *
+     * @param length  the target length of the template
+     * @param spacing the amount of words per placeholder
+     * @return the amount of placeholders
+     */
+    static int count(int length, int spacing) {
+        String template = generate(length, spacing);
+        int count = 0;
+        for (int i = 0; i < template.length(); i++) {
+            if (template.charAt(i) == '{') ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Returns a binder having a value bound to the index of every
+     * placeholder of a template of the given {@code length} and
+     * {@code spacing}.
+     *
+     * @param length  the target length of the template
+     * @param spacing the amount of words per placeholder
+     * @return the allocated binder
+     */
+    static DataBindMap index(int length, int spacing) {
+        Object[] values = new Object[count(length, spacing)];
+        for (int i = 0; i < values.length; i++) values[i] = "value" + i;
+        return DataBindMap.index(values);
+    }
+
+}
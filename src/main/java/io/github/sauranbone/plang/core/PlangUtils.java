@@ -2,6 +2,7 @@ package io.github.sauranbone.plang.core;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.*;
 import java.util.regex.Pattern;
 
 /**
@@ -20,6 +21,38 @@ public class PlangUtils {
 
     private static final String ESCAPE_STRING = "\\";
 
+    //Cache of the top superclass of every resolved class
+    private static final ClassValue<Class<?>> TOP_SUPERCLASSES = new ClassValue<Class<?>>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            for (Class<?> c; (c = type.getSuperclass()) != null; type = c) {
+                if (c == Object.class) break;
+            }
+            return type;
+        }
+    };
+
+    //Cache of the assignable types of every resolved class
+    private static final ClassValue<List<Class<?>>> ASSIGNABLE_TYPES = new ClassValue<List<Class<?>>>() {
+        @Override
+        protected List<Class<?>> computeValue(Class<?> type) {
+            LinkedHashSet<Class<?>> types = new LinkedHashSet<>();
+            //Add the type and its superclasses, the nearest first
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                if (c == Object.class && c != type) break;
+                types.add(c);
+            }
+            //Add every interface breadth-first, the nearest first
+            ArrayDeque<Class<?>> queue = new ArrayDeque<>(types);
+            while (!queue.isEmpty()) {
+                for (Class<?> i : queue.poll().getInterfaces()) {
+                    if (types.add(i)) queue.add(i);
+                }
+            }
+            return Collections.unmodifiableList(new ArrayList<>(types));
+        }
+    };
+
     /**
      * Escapes the given {@code cp} if that is one of regular expression
      * special characters and returns the mutated and regex escaped
@@ -90,9 +123,25 @@ public class PlangUtils {
      */
     public static Class<?> getTopSuperclass(Class<?> type) {
         if (type == null) return null;
-        for (Class<?> c; (c = type.getSuperclass()) != null; type = c) {
-            if (c == Object.class) break;
-        }
-        return type;
+        return TOP_SUPERCLASSES.get(type);
+    }
+
+    /**
+     * Returns all types a value of {@code type} is assignable to, except
+     * the Java Object class, ordered from the nearest to the farthest
+     * type.
+     * <p>The returned list starts with {@code type} itself, followed by
+     * its superclasses and finally all interfaces implemented by any of
+     * those, in breadth-first order.  The list is computed only once for
+     * every class.
+     *
+     * @param type the target type to get from
+     * @return the immutable list of assignable types, empty if
+     * {@code type} is null
+     * @see #getTopSuperclass(Class)
+     */
+    public static List<Class<?>> getAssignableTypes(Class<?> type) {
+        if (type == null) return Collections.emptyList();
+        return ASSIGNABLE_TYPES.get(type);
     }
 }
@@ -0,0 +1,289 @@
+package io.github.sauranbone.plang.core.error;
+
+import io.github.sauranbone.plang.core.specific.Language;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Error handler that does not handle non-breaking errors one at a time,
+ * but counts their occurrences per language, placeholder and error type,
+ * and reports deduplicated summaries of them on demand or on a schedule.
+ * <p>Handling a non-breaking error is a single increment of a striped
+ * counter, so that warnings fired on every transformation, like unbound
+ * placeholders, neither block nor contend the rendering threads.  Errors
+ * not concerning any placeholder are counted per error type only, thus
+ * their message is never formatted.  At most {@link #MAX_PLACEHOLDERS}
+ * placeholders are counted per language, and errors concerning any
+ * further placeholder are counted like errors not concerning any
+ * placeholder, so that the counters are bounded.  Breaking
+ * errors are forwarded to a delegate handler, which by default is the
+ * {@link DefaultErrorHandler}, thus they are still thrown.
+ * <p>Errors are attributed to a language by using the handler returned by
+ * {@link #forLanguage(Language)} as that language's error handler, whereas
+ * errors handled by this handler directly are not attributed to any
+ * language:
+ * <pre><code>
+ *     AggregatingErrorHandler errors = new AggregatingErrorHandler(
+ *          summaries -> summaries.forEach(logger::warning));
+ *     errors.schedule(executor, 1, TimeUnit.MINUTES);
+ *     language.setErrorHandler(errors.forLanguage(language));
+ * </code></pre>
+ *
+ * @author agent
+ * @version 16:22 CEST, 17.10.2026
+ * @see Summary
+ * @since 1.0
+ */
+public class AggregatingErrorHandler implements LanguageErrorHandler {
+
+    /**
+     * The maximum amount of placeholders whose errors are counted per
+     * language, which may be exceeded slightly by concurrent errors.
+     */
+    public static final int MAX_PLACEHOLDERS = 1024;
+
+    private static final ParseErrorType[] TYPES = ParseErrorType.values();
+
+    private final Consumer<? super List<Summary>> reporter;
+
+    private final LanguageErrorHandler delegate;
+
+    //Counters of errors that are not attributed to any language
+    private final Counters shared = new Counters(null);
+
+    private final Map<Language, Counters> languages = new ConcurrentHashMap<>();
+
+    /**
+     * Allocates a new aggregating handler, that forwards breaking errors
+     * to the {@link DefaultErrorHandler}.
+     *
+     * @param reporter the consumer the summaries are reported to
+     * @throws NullPointerException if {@code reporter} is null
+     */
+    public AggregatingErrorHandler(Consumer<? super List<Summary>> reporter) {
+        this(reporter, DefaultErrorHandler.SINGLETON);
+    }
+
+    /**
+     * Allocates a new aggregating handler, that forwards breaking errors
+     * to the given {@code delegate}.
+     *
+     * @param reporter the consumer the summaries are reported to
+     * @param delegate the handler breaking errors are forwarded to
+     * @throws NullPointerException if any argument is null
+     */
+    public AggregatingErrorHandler(Consumer<? super List<Summary>> reporter, LanguageErrorHandler delegate) {
+        Objects.requireNonNull(reporter, "Reporter");
+        Objects.requireNonNull(delegate, "Delegate");
+        this.reporter = reporter;
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the handler attributing its errors to the given
+     * {@code language}, whose counters are shared with this handler.
+     *
+     * @param language the target language
+     * @return the handler of {@code language}, {@code not null}
+     * @throws NullPointerException if {@code language} is null
+     */
+    public LanguageErrorHandler forLanguage(Language language) {
+        Objects.requireNonNull(language, "Language");
+        Counters counters = languages.get(language);
+        if (counters != null) return counters;
+        return languages.computeIfAbsent(language, Counters::new);
+    }
+
+    @Override
+    public void handle(ParseError error) {
+        shared.handle(error);
+    }
+
+    @Override
+    public boolean isEnabled(ParseErrorType type) {
+        return shared.isEnabled(type);
+    }
+
+    /**
+     * Returns the summaries of all errors counted since the last drain
+     * and resets their counters, without reporting them.
+     * <p>Errors that are counted concurrently are either contained in the
+     * returned summaries or in those of the next drain.
+     *
+     * @return the summaries of all counted errors, {@code not null}
+     */
+    public List<Summary> drain() {
+        List<Summary> summaries = new ArrayList<>();
+        shared.drain(summaries);
+        for (Counters counters : languages.values()) {
+            counters.drain(summaries);
+        }
+        return summaries;
+    }
+
+    /**
+     * Drains the summaries of all errors counted since the last drain and
+     * reports them to the reporter, unless there are none.
+     *
+     * @return the reported summaries, {@code not null}
+     * @see #drain()
+     */
+    public List<Summary> report() {
+        List<Summary> summaries = drain();
+        if (!summaries.isEmpty()) reporter.accept(summaries);
+        return summaries;
+    }
+
+    /**
+     * Schedules reporting all counted errors on the given {@code executor}
+     * every {@code period}.
+     *
+     * @param executor the target executor to report on
+     * @param period   the period between two reports
+     * @param unit     the time unit of {@code period}
+     * @return the future of the scheduled reports, which can be cancelled
+     * @throws NullPointerException if {@code executor} or {@code unit} is
+     *                              null
+     * @see #report()
+     */
+    public ScheduledFuture<?> schedule(ScheduledExecutorService executor, long period, TimeUnit unit) {
+        Objects.requireNonNull(executor, "Executor");
+        Objects.requireNonNull(unit, "Unit");
+        return executor.scheduleAtFixedRate(this::report, period, period, unit);
+    }
+
+    /**
+     * Counters of the errors of a single language, that is also the
+     * handler attributing errors to that language.
+     */
+    private final class Counters implements LanguageErrorHandler {
+
+        private final Language language;
+
+        //Counters of every error type mapped by the placeholder name
+        private final Map<String, LongAdder[]> placeholders = new ConcurrentHashMap<>();
+
+        //Counters of every error type not concerning any counted placeholder
+        private final LongAdder[] unattributed = newCounters();
+
+        Counters(Language language) {
+            this.language = language;
+        }
+
+        @Override
+        public void handle(ParseError error) {
+            Objects.requireNonNull(error);
+            final ParseErrorType type = error.getErrorType();
+            if (type == null || type.isBreaking()) {
+                delegate.handle(error);
+                return;
+            }
+            final String placeholder = error.getPlaceholder();
+            LongAdder[] counters = placeholder == null ? null : placeholders.get(placeholder);
+            if (counters == null) {
+                //Only count further placeholders while below the limit
+                if (placeholder == null || placeholders.size() >= MAX_PLACEHOLDERS) {
+                    counters = unattributed;
+                } else counters = placeholders.computeIfAbsent(placeholder, k -> newCounters());
+            }
+            counters[type.ordinal()].increment();
+        }
+
+        @Override
+        public boolean isEnabled(ParseErrorType type) {
+            return type == null || !type.isBreaking() || delegate.isEnabled(type);
+        }
+
+        void drain(List<Summary> summaries) {
+            drain(summaries, null, unattributed);
+            for (Map.Entry<String, LongAdder[]> entry : placeholders.entrySet()) {
+                drain(summaries, entry.getKey(), entry.getValue());
+            }
+        }
+
+        private void drain(List<Summary> summaries, String placeholder, LongAdder[] counters) {
+            for (int i = 0; i < counters.length; i++) {
+                long count = counters[i].sumThenReset();
+                if (count == 0) continue;
+                summaries.add(new Summary(language, placeholder, TYPES[i], count));
+            }
+        }
+
+        private LongAdder[] newCounters() {
+            LongAdder[] counters = new LongAdder[TYPES.length];
+            for (int i = 0; i < counters.length; i++) counters[i] = new LongAdder();
+            return counters;
+        }
+    }
+
+    /**
+     * Immutable summary of the errors of a single type concerning a
+     * single placeholder of a language, that occurred within a period.
+     */
+    public static final class Summary {
+
+        private final Language language;
+        private final String placeholder;
+        private final ParseErrorType errorType;
+        private final long count;
+
+        Summary(Language language, String placeholder, ParseErrorType errorType, long count) {
+            this.language = language;
+            this.placeholder = placeholder;
+            this.errorType = errorType;
+            this.count = count;
+        }
+
+        /**
+         * Returns the language the errors occurred in.
+         *
+         * @return the language, {@code nullable} if not attributed
+         */
+        public Language getLanguage() {
+            return language;
+        }
+
+        /**
+         * Returns the name of the placeholder the errors are concerning.
+         *
+         * @return the placeholder name, {@code nullable} if the errors are
+         * not concerning any placeholder or the limit of placeholders has
+         * been reached
+         * @see #MAX_PLACEHOLDERS
+         */
+        public String getPlaceholder() {
+            return placeholder;
+        }
+
+        /**
+         * Returns the type of the errors.
+         *
+         * @return the error type, {@code not null}
+         */
+        public ParseErrorType getErrorType() {
+            return errorType;
+        }
+
+        /**
+         * Returns the amount of errors that occurred.
+         *
+         * @return the amount of errors
+         */
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return errorType + (placeholder == null ? "" : " " + placeholder) + " in "
+                    + Language.getIdentifier(language) + " (" + count + "x)";
+        }
+    }
+
+}
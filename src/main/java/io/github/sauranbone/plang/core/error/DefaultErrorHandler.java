@@ -1,7 +1,5 @@
 package io.github.sauranbone.plang.core.error;
 
-import org.apache.commons.lang3.Validate;
-
 import java.util.Objects;
 
 /**
@@ -24,15 +22,33 @@ public class DefaultErrorHandler implements LanguageErrorHandler {
      * {@inheritDoc}
      *
      * @param error the target error to be logged
-     * @throws RuntimeException     if {@code error} is a breaking type
-     * @throws NullPointerException if {@code error} is null
+     * @throws IllegalArgumentException if {@code error} is a breaking
+     *                                  type
+     * @throws NullPointerException     if {@code error} is null
      */
     @Override
     public void handle(ParseError error) {
         Objects.requireNonNull(error);
         final ParseErrorType type = error.getErrorType();
-        final String message = error.getMessage();
-        Validate.isTrue(type != null && !type.isBreaking(), message);
+        //Only format the message of errors that are thrown
+        if (type == null || type.isBreaking())
+            throw new IllegalArgumentException(error.getMessage());
+    }
+
+    /**
+     * Returns true if errors of the given {@code type} are handled.
+     * <p>An instance of exactly this class discards any error that is not
+     * breaking, whereas every type is enabled for instances of subclasses,
+     * as they may override {@link #handle(ParseError)} in order to handle
+     * non-breaking errors.  Subclasses only handling breaking errors can
+     * override this method to disable the other types.
+     *
+     * @param type the target error type
+     * @return false if errors of {@code type} are discarded
+     */
+    @Override
+    public boolean isEnabled(ParseErrorType type) {
+        return getClass() != DefaultErrorHandler.class || type == null || type.isBreaking();
     }
 
 }
@@ -31,4 +31,22 @@ public interface LanguageErrorHandler {
      */
     void handle(final ParseError error);
 
+    /**
+     * Returns true if errors of the given {@code type} are handled by this
+     * handler rather than discarded.
+     * <p>Callers can check this before allocating an error, so that errors
+     * that are discarded anyway do not cost anything:
+     * <pre><code>
+     *     if (errors.isEnabled(ParseErrorType.WARNING))
+     *         errors.handle(ParseError.unbound(name, slot, key));
+     * </code></pre>
+     * <p>By default, every type is enabled.
+     *
+     * @param type the target error type
+     * @return false if errors of {@code type} are discarded
+     */
+    default boolean isEnabled(ParseErrorType type) {
+        return true;
+    }
+
 }
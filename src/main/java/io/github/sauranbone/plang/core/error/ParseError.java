@@ -9,15 +9,25 @@ import java.util.Objects;
  * errors, that shall be transformed and processed using the underlying
  * language's error handling, which may trigger further nested parsing
  * algorithms.
+ * <p>An error concerning a placeholder carries its name, its slot within
+ * the message and the key of the message as structured fields, whereas
+ * its message is only formatted once it is first requested.
  *
  * @author Vinzent Zeband
  * @version 00:24 CET, 23.02.2022
+ * @see LanguageErrorHandler#isEnabled(ParseErrorType)
  * @since 1.0
  */
 public class ParseError {
 
     private final ParseErrorType errorType;
-    private final String message;
+
+    private final String placeholder, reason, messageKey;
+
+    private final int slot;
+
+    //Formatted on first access, racy as formatting is idempotent
+    private String message;
 
     /**
      * Allocates a new parser error instance containing given constructive
@@ -28,17 +38,117 @@ public class ParseError {
      * @throws NullPointerException if {@code errorType} is null
      */
     public ParseError(ParseErrorType errorType, String message) {
+        this(errorType, null, null, -1, null);
+        this.message = message;
+    }
+
+    /**
+     * Allocates a new parser error instance concerning the given
+     * {@code placeholder}, whose message is formatted out of the given
+     * attributes once it is first requested.
+     *
+     * @param errorType   the target type of the error
+     * @param placeholder the name of the concerned placeholder,
+     *                    {@code nullable}
+     * @param reason      the reason of the error, {@code nullable}
+     * @param slot        the index of the concerned placeholder within
+     *                    its message, or {@code -1} if unknown
+     * @param messageKey  the key of the concerned message,
+     *                    {@code nullable}
+     * @throws NullPointerException if {@code errorType} is null
+     */
+    public ParseError(ParseErrorType errorType, String placeholder, String reason, int slot, String messageKey) {
         Objects.requireNonNull(errorType);
         this.errorType = errorType;
-        this.message = message;
+        this.placeholder = placeholder;
+        this.reason = reason;
+        this.slot = slot;
+        this.messageKey = messageKey;
+    }
+
+    /**
+     * Returns a new warning stating that the given {@code placeholder}
+     * is not bound.
+     *
+     * @param placeholder the name of the unbound placeholder
+     * @param slot        the index of the placeholder within its message
+     * @param messageKey  the key of the message, {@code nullable}
+     * @return the newly allocated error
+     */
+    public static ParseError unbound(String placeholder, int slot, String messageKey) {
+        return new ParseError(ParseErrorType.WARNING, placeholder, "not bound", slot, messageKey);
+    }
+
+    /**
+     * Returns a new notification stating that the given
+     * {@code placeholder} is dynamic, meaning not contained in the
+     * lexicon.
+     *
+     * @param placeholder the name of the dynamic placeholder
+     * @return the newly allocated error
+     */
+    public static ParseError dynamic(String placeholder) {
+        return new ParseError(ParseErrorType.NOTIFY, placeholder, "is dynamic", -1, null);
     }
 
     public ParseErrorType getErrorType() {
         return errorType;
     }
 
+    /**
+     * Returns the message of this error, which is formatted out of the
+     * structured attributes of this error on first access, if not given.
+     *
+     * @return the message of this error, {@code nullable}
+     */
     public String getMessage() {
+        String message = this.message;
+        if (message == null && placeholder != null) {
+            this.message = message = "placeholder " + placeholder + (reason == null ? "" : ' ' + reason);
+        }
         return message;
     }
 
+    /**
+     * Returns the name of the placeholder this error is concerning.
+     *
+     * @return the placeholder name, {@code nullable}
+     */
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Returns the reason of this error, without any placeholder name.
+     *
+     * @return the reason of this error, {@code nullable}
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Returns the index of the placeholder this error is concerning within
+     * its message.
+     *
+     * @return the slot index, or {@code -1} if unknown
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the key of the message this error is concerning.
+     *
+     * @return the message key, {@code nullable}
+     */
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    @Override
+    public String toString() {
+        return errorType + ": " + getMessage();
+    }
+
 }
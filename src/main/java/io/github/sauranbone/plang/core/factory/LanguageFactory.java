@@ -1,6 +1,5 @@
 package io.github.sauranbone.plang.core.factory;
 
-import com.sun.scenario.effect.impl.prism.ps.PPSBlend_REDPeer;
 import io.github.sauranbone.plang.core.exception.LanguageNotFoundException;
 import io.github.sauranbone.plang.core.parsing.impl.DefaultParser;
 import io.github.sauranbone.plang.core.parsing.impl.DefaultTransformer;
@@ -173,7 +172,7 @@ public interface LanguageFactory extends Iterable<Language> {
      * @see #getOrCreate(String, Function)
      */
     default Language getByName(String name) {
-        Language language = getById(name, null);
+        Language language = getByName(name, null);
         if (language != null) return language;
         throw LanguageNotFoundException.byName(name);
     }
@@ -0,0 +1,222 @@
+package io.github.sauranbone.plang.core.factory;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolver negotiating the best matching language of a language factory
+ * for a client's preferred languages, such as an {@code Accept-Language}
+ * header or a {@link Locale}.
+ * <p>Every language range is resolved along its fallback chain, meaning
+ * that its subtags are truncated from the end until a language having an
+ * equal {@link Language#getAbbreviation() abbreviation} is found, before
+ * the next range in order of priority is tried:
+ * <pre><code>
+ *     "de-AT,de;q=0.9,en;q=0.8"  ->  de-AT, de, en
+ * </code></pre>
+ * <p>If no range matches any language, the fallback language of this
+ * resolver is returned.  Abbreviations are looked up as given and in
+ * lowercase, so that a language abbreviated {@code "de-at"} is matched as
+ * well as {@code "de-AT"}.
+ * <p>The resolved languages are cached per input, so that negotiating an
+ * input again is a single hash probe.  The cache is bounded and cleared as
+ * a whole whenever it exceeds its capacity, which keeps every lookup free
+ * of locks.  As the cache is not aware of mutations of the factory,
+ * {@link #invalidate()} must be called whenever languages are set or
+ * unset after they have been resolved.
+ *
+ * @author agent
+ * @version 16:19 CEST, 17.10.2026
+ * @see LanguageFactory#getByAbbreviation(String, Language)
+ * @since 1.0
+ */
+public class LanguageResolver {
+
+    /**
+     * The default maximum amount of resolved inputs that are cached.
+     */
+    public static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private final LanguageFactory factory;
+
+    private final Language fallback;
+
+    private final int cacheCapacity;
+
+    //Resolved languages mapped by their input, empty if falling back
+    private final Map<String, Optional<Language>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Allocates a new resolver caching up to
+     * {@link #DEFAULT_CACHE_CAPACITY} resolved inputs.
+     *
+     * @param factory  the factory the languages are resolved of
+     * @param fallback the language resolved if no language matches,
+     *                 {@code nullable}
+     * @throws NullPointerException if {@code factory} is null
+     */
+    public LanguageResolver(LanguageFactory factory, Language fallback) {
+        this(factory, fallback, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Allocates a new resolver caching up to {@code cacheCapacity}
+     * resolved inputs.
+     *
+     * @param factory       the factory the languages are resolved of
+     * @param fallback      the language resolved if no language matches,
+     *                      {@code nullable}
+     * @param cacheCapacity the maximum amount of cached inputs
+     * @throws NullPointerException if {@code factory} is null
+     */
+    public LanguageResolver(LanguageFactory factory, Language fallback, int cacheCapacity) {
+        Objects.requireNonNull(factory, "Factory");
+        this.factory = factory;
+        this.fallback = fallback;
+        this.cacheCapacity = Math.max(cacheCapacity, 0);
+    }
+
+    /**
+     * Returns the best matching language for the given
+     * {@code acceptLanguage} priority list, which has the format of an
+     * {@code Accept-Language} header, such as
+     * {@code "de-AT,de;q=0.9,en;q=0.8"}.
+     *
+     * @param acceptLanguage the target priority list, {@code nullable}
+     * @return the best matching language, or the fallback language if no
+     * language matches
+     * @see #getFallbackChain(String)
+     */
+    public Language resolve(String acceptLanguage) {
+        if (StringUtils.isBlank(acceptLanguage)) return fallback;
+        Optional<Language> language = cache.get(acceptLanguage);
+        if (language == null) {
+            language = Optional.ofNullable(find(getFallbackChain(acceptLanguage)));
+            cache(acceptLanguage, language);
+        }
+        return language.orElse(fallback);
+    }
+
+    /**
+     * Returns the best matching language for the given {@code locale},
+     * by resolving its language tag.
+     *
+     * @param locale the target locale, {@code nullable}
+     * @return the best matching language, or the fallback language if no
+     * language matches
+     * @see Locale#toLanguageTag()
+     * @see #resolve(String)
+     */
+    public Language resolve(Locale locale) {
+        return locale == null ? fallback : resolve(locale.toLanguageTag());
+    }
+
+    /**
+     * Returns the ordered fallback chain of abbreviations that are looked
+     * up for the given {@code acceptLanguage} priority list.
+     * <p>The ranges are ordered by their quality value, keeping the order
+     * of ranges having equal quality.  Ranges having a quality of zero and
+     * the wildcard range are ignored.  Every range is followed by its
+     * truncations, unless they are already contained in the chain.
+     *
+     * @param acceptLanguage the target priority list
+     * @return the fallback chain of abbreviations, {@code not null}
+     */
+    public List<String> getFallbackChain(String acceptLanguage) {
+        if (StringUtils.isBlank(acceptLanguage)) return Collections.emptyList();
+        List<String> ranges = new ArrayList<>();
+        List<Float> qualities = new ArrayList<>();
+        for (String entry : StringUtils.split(acceptLanguage, ',')) {
+            String[] params = StringUtils.split(entry, ';');
+            if (params.length == 0) continue;
+            String range = params[0].trim().replace('_', '-');
+            float quality = 1f;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (!param.startsWith("q=")) continue;
+                try {
+                    quality = Float.parseFloat(param.substring(2));
+                } catch (NumberFormatException e) {
+                    quality = 0f;
+                }
+            }
+            if (range.isEmpty() || "*".equals(range) || !(quality > 0f)) continue;
+            //Insert after every range having an equal or higher quality
+            int index = 0;
+            while (index < qualities.size() && qualities.get(index) >= quality) ++index;
+            ranges.add(index, range);
+            qualities.add(index, quality);
+        }
+        Set<String> chain = new LinkedHashSet<>();
+        for (String range : ranges) {
+            for (String tag = range; tag != null; tag = truncate(tag)) {
+                chain.add(tag);
+            }
+        }
+        return new ArrayList<>(chain);
+    }
+
+    /**
+     * Clears every cached resolution, which must be called whenever the
+     * languages of the factory have been mutated.
+     */
+    public void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the factory the languages are resolved of.
+     *
+     * @return the target factory, {@code not null}
+     */
+    public LanguageFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns the language that is resolved if no language matches.
+     *
+     * @return the fallback language, {@code nullable}
+     */
+    public Language getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Returns the first language of the factory whose abbreviation is
+     * equal to any element of the given {@code chain}, in order.
+     *
+     * @param chain the target fallback chain of abbreviations
+     * @return the first matching language, {@code nullable}
+     */
+    protected Language find(List<String> chain) {
+        for (String tag : chain) {
+            Language language = factory.getByAbbreviation(tag, null);
+            if (language != null) return language;
+            String lowercase = tag.toLowerCase(Locale.ROOT);
+            if (lowercase.equals(tag)) continue;
+            language = factory.getByAbbreviation(lowercase, null);
+            if (language != null) return language;
+        }
+        return null;
+    }
+
+    private void cache(String input, Optional<Language> language) {
+        if (cacheCapacity == 0) return;
+        //Clear the whole cache rather than evicting under a lock
+        if (cache.size() >= cacheCapacity) cache.clear();
+        cache.put(input, language);
+    }
+
+    private static String truncate(String tag) {
+        int index = tag.lastIndexOf('-');
+        if (index <= 0) return null;
+        //Never end on a singleton subtag, such as an extension prefix
+        if (index >= 2 && tag.charAt(index - 2) == '-') index -= 2;
+        return tag.substring(0, index);
+    }
+
+}
@@ -5,12 +5,21 @@ import io.github.sauranbone.plang.core.specific.Language;
 import io.github.sauranbone.plang.core.specific.Lexicon;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
  * Default language factory class, containing utilities to create, cache
  * and access languages, their features and their attributes.
+ * <p>Besides the cache keyed by the uppercase name, this factory keeps a
+ * secondary index keyed by {@link Language#getAbbreviation()
+ * abbreviation} and by {@link Language#getIdentifier() identifier}, so
+ * that looking up, finding and unsetting languages by either of them is a
+ * single hash probe instead of iterating all cached languages.  The
+ * indices are updated together with the cache on every mutation, which
+ * are thus synchronized on this factory, whereas lookups are never
+ * synchronized on the indices.
  *
  * @author Vinzent Zeband
  * @version 01:00 CET, 23.02.2022
@@ -18,12 +27,34 @@ import java.util.function.Predicate;
  */
 public class LocalisationFactory extends HashPlangMap<String, Language> implements LanguageFactory {
 
+    //Secondary indices mapping abbreviations and identifiers to entries
+    private final Map<String, IndexEntry> abbreviations = new ConcurrentHashMap<>();
+    private final Map<String, IndexEntry> identifiers = new ConcurrentHashMap<>();
+
+    //Locks of the keys whose languages are currently being created
+    private final Map<String, Object> creations = new ConcurrentHashMap<>();
+
     /**
      * Allocates a new default localisation factory, that creates, caches
      * and lists languages and their attributes.
      */
     public LocalisationFactory() {
-        super(0);
+        this(false);
+    }
+
+    /**
+     * Allocates a new localisation factory, that creates, caches and
+     * lists languages and their attributes.
+     * <p>If {@code concurrent} is true, the factory is backed by a
+     * concurrent map and languages are accessed without any
+     * synchronization, which is recommended for factories that are used
+     * by many threads but rarely mutated.
+     *
+     * @param concurrent true if this factory should be concurrent
+     * @see #isConcurrent()
+     */
+    public LocalisationFactory(boolean concurrent) {
+        super(0, concurrent);
     }
 
     @Override
@@ -39,28 +70,16 @@ public class LocalisationFactory extends HashPlangMap<String, Language> implemen
 
     @Override
     public synchronized boolean unsetById(String identifier) {
-        boolean unset = false;
-        for (Language language : cache()) {
-            if (language != null && language.isEqualIdentifier(identifier)) {
-                unset |= unsetByName(language.getName());
-            }
-        }
-        return unset;
+        return unsetAll(identifier == null ? null : identifiers.get(identifier));
     }
 
     @Override
     public synchronized boolean unsetByAbbreviation(String abbreviation) {
-        boolean unset = false;
-        for (Language language : cache()) {
-            if (language != null && language.isEqualAbbreviation(abbreviation)) {
-                unset |= unsetByAbbreviation(language.getName());
-            }
-        }
-        return unset;
+        return unsetAll(abbreviation == null ? null : abbreviations.get(abbreviation));
     }
 
     @Override
-    public synchronized Language getOrCreate(String name, String abbreviation) {
+    public Language getOrCreate(String name, String abbreviation) {
         Objects.requireNonNull(abbreviation, "Abbreviation");
         return getOrCreate(name, (n) -> new Language(n, abbreviation));
     }
@@ -72,58 +91,105 @@ public class LocalisationFactory extends HashPlangMap<String, Language> implemen
         return getOrCreate(name, (n) -> new Language(n, abbreviation, lexicon));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>Languages are created single-flight per name: concurrent calls
+     * for the same uncached name wait for a single call of
+     * {@code creator}, while calls for other names are not blocked.  Once
+     * a language is cached, it is returned without any creation lock.
+     *
+     * @param name    the target name of the language
+     * @param creator the function that is called with {@code name} in case
+     *                {@code name} is not baked as language yet
+     * @return the cached or newly created language, {@code not null}
+     */
     @Override
     public Language getOrCreate(String name, Function<String, ? extends Language> creator) {
         String key = processKey(name);
         Objects.requireNonNull(creator, "Creator");
-        //Create language in case it is not yet set
-        if (!isset(key, true)) {
-            set(key, Objects.requireNonNull(creator.apply(name), "created language cannot be null"));
+        Language language = get(key);
+        if (language != null) return language;
+        //Create language in case it is not yet set, once per key
+        Object lock = creations.computeIfAbsent(key, k -> new Object());
+        try {
+            synchronized (lock) {
+                if ((language = get(key)) != null) return language;
+                language = Objects.requireNonNull(creator.apply(name), "created language cannot be null");
+                synchronized (this) {
+                    //Another language may have been set in the meantime
+                    Language present = get(key);
+                    if (present != null) return present;
+                    set(key, language);
+                }
+                return language;
+            }
+        } finally {
+            creations.remove(key, lock);
         }
-        return Objects.requireNonNull(get(key), "null returned as language");
     }
 
     @Override
     public Language getByAbbreviation(String abbreviation, Language def) {
         if (abbreviation == null) return def;
-        for (Language language : values()) {
-            if (language.isEqualAbbreviation(abbreviation))
-                return language;
-        }
-        return def;
+        IndexEntry entry = abbreviations.get(abbreviation);
+        return entry == null ? def : entry.languages[0];
     }
 
     @Override
     public Language getByName(String name, Language def) {
         if (name == null) return def;
-        return get(processKey(name));
+        Language language = get(processKey(name));
+        return language == null ? def : language;
     }
 
     @Override
     public Language getById(String identifier, Language def) {
         if (identifier == null) return def;
-        for (Language language : values()) {
-            if (language.isEqualIdentifier(identifier)) return language;
-        }
-        return def;
+        IndexEntry entry = identifiers.get(identifier);
+        return entry == null ? def : entry.languages[0];
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param identifier the target identifier to be found
+     * @return the immutable collection of all cached languages having an
+     * equal {@code identifier}
+     */
     @Override
     public Collection<Language> findById(String identifier) {
-        if (identifier == null) return new ArrayList<>();
-        return find(lang -> lang.isEqualIdentifier(identifier));
+        if (identifier == null) return Collections.emptyList();
+        IndexEntry entry = identifiers.get(identifier);
+        return entry == null ? Collections.emptyList() : entry.view;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param abbreviation the target abbreviation to be found
+     * @return the immutable collection of all cached languages having an
+     * equal {@code abbreviation}
+     */
     @Override
     public Collection<Language> findByAbbreviation(String abbreviation) {
-        if (abbreviation == null) return new ArrayList<>();
-        return find(lang -> lang.isEqualAbbreviation(abbreviation));
+        if (abbreviation == null) return Collections.emptyList();
+        IndexEntry entry = abbreviations.get(abbreviation);
+        return entry == null ? Collections.emptyList() : entry.view;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param name the target name to be found
+     * @return the immutable collection of the cached language having an
+     * equal {@code name}
+     */
     @Override
     public Collection<Language> findByName(String name) {
-        if (name == null) return new ArrayList<>();
-        return find(lang -> lang.isEqualName(name));
+        Language language = getByName(name, null);
+        if (language == null || !language.isEqualName(name))
+            return Collections.emptyList();
+        return Collections.singletonList(language);
     }
 
     @Override
@@ -152,8 +218,44 @@ public class LocalisationFactory extends HashPlangMap<String, Language> implemen
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
         super.clear();
+        abbreviations.clear();
+        identifiers.clear();
+    }
+
+    @Override
+    protected synchronized LocalisationFactory set(String key, Language language) {
+        Language previous = get(key);
+        super.set(key, language);
+        if (previous != null) unindex(key, previous);
+        index(key, language);
+        return this;
+    }
+
+    @Override
+    protected synchronized LocalisationFactory putAll(Map<? extends String, ? extends Language> values) {
+        Objects.requireNonNull(values, "Values");
+        for (Map.Entry<? extends String, ? extends Language> m : values.entrySet()) {
+            Objects.requireNonNull(m.getKey(), "Key");
+            Objects.requireNonNull(m.getValue(), "Value");
+        }
+        values.forEach(this::set);
+        return this;
+    }
+
+    @Override
+    protected synchronized Language remove(String key) {
+        Language language = super.remove(key);
+        if (language != null) unindex(key, language);
+        return language;
+    }
+
+    @Override
+    protected synchronized boolean remove(String key, Language language) {
+        if (!super.remove(key, language)) return false;
+        unindex(key, language);
+        return true;
     }
 
     @Override
@@ -174,8 +276,77 @@ public class LocalisationFactory extends HashPlangMap<String, Language> implemen
         return name.toUpperCase(Locale.ROOT);
     }
 
+    private boolean unsetAll(IndexEntry entry) {
+        if (entry == null) return false;
+        boolean unset = false;
+        for (int i = 0; i < entry.keys.length; i++) {
+            unset |= remove(entry.keys[i], entry.languages[i]);
+        }
+        return unset;
+    }
+
+    private void index(String key, Language language) {
+        abbreviations.compute(language.getAbbreviation(),
+                (k, entry) -> IndexEntry.add(entry, key, language));
+        identifiers.compute(language.getIdentifier(),
+                (k, entry) -> IndexEntry.add(entry, key, language));
+    }
+
+    private void unindex(String key, Language language) {
+        abbreviations.computeIfPresent(language.getAbbreviation(),
+                (k, entry) -> entry.remove(key, language));
+        identifiers.computeIfPresent(language.getIdentifier(),
+                (k, entry) -> entry.remove(key, language));
+    }
+
     @Override
     public Iterator<Language> iterator() {
         return cache().iterator();
     }
+
+    /**
+     * Immutable entry of a secondary index, containing every cached
+     * language sharing the same indexed attribute in insertion order,
+     * along with the key each of those languages is cached at.
+     */
+    private static final class IndexEntry {
+
+        final String[] keys;
+        final Language[] languages;
+        final List<Language> view;
+
+        IndexEntry(String[] keys, Language[] languages) {
+            this.keys = keys;
+            this.languages = languages;
+            this.view = Collections.unmodifiableList(Arrays.asList(languages));
+        }
+
+        static IndexEntry add(IndexEntry entry, String key, Language language) {
+            if (entry == null)
+                return new IndexEntry(new String[]{key}, new Language[]{language});
+            final int n = entry.keys.length;
+            String[] keys = Arrays.copyOf(entry.keys, n + 1);
+            Language[] languages = Arrays.copyOf(entry.languages, n + 1);
+            keys[n] = key;
+            languages[n] = language;
+            return new IndexEntry(keys, languages);
+        }
+
+        IndexEntry remove(String key, Language language) {
+            final int n = keys.length;
+            for (int i = 0; i < n; i++) {
+                //Compare languages by identity, as they are equal by id
+                if (languages[i] != language || !keys[i].equals(key)) continue;
+                if (n == 1) return null;
+                String[] keys = new String[n - 1];
+                Language[] languages = new Language[n - 1];
+                System.arraycopy(this.keys, 0, keys, 0, i);
+                System.arraycopy(this.keys, i + 1, keys, i, n - i - 1);
+                System.arraycopy(this.languages, 0, languages, 0, i);
+                System.arraycopy(this.languages, i + 1, languages, i, n - i - 1);
+                return new IndexEntry(keys, languages);
+            }
+            return this;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package io.github.sauranbone.plang.core.map;
 import io.github.sauranbone.plang.core.specific.Lexicon;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstract class containing a map composition of any map implementation
@@ -10,6 +11,11 @@ import java.util.*;
  * <p>All methods contained in this class are protected in order to change
  * the visibility to the third party developer in the underlying
  * implementation, depending on the underlying needs and requirements.
+ * <p>By default, every access is synchronized on this map.  A map can
+ * also be allocated as concurrent map, in which case it is backed by a
+ * {@link ConcurrentHashMap} and no access is synchronized, so that
+ * readers never contend with each other or with writers.  This is meant
+ * for maps that are read very frequently but rarely mutated.
  *
  * @author Vinzent Zeband
  * @version 01:55 CET, 13.02.2022
@@ -20,6 +26,8 @@ public abstract class AbstractPlangMap<K, V> {
 
     private final Map<K, V> map;
 
+    private final boolean concurrent;
+
     /**
      * Allocates a new map having no initial values.
      */
@@ -33,7 +41,22 @@ public abstract class AbstractPlangMap<K, V> {
      * @param initialCapacity the initial capacity of this map
      */
     public AbstractPlangMap(int initialCapacity) {
-        this.map = createMap(initialCapacity);
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Allocates a new map having the given {@code initialCapacity}.
+     *
+     * @param initialCapacity the initial capacity of this map
+     * @param concurrent      true if this map should be backed by a
+     *                        concurrent map instead of being synchronized
+     * @see #isConcurrent()
+     */
+    public AbstractPlangMap(int initialCapacity, boolean concurrent) {
+        this.concurrent = concurrent;
+        this.map = concurrent
+                ? createConcurrentMap(initialCapacity)
+                : createMap(initialCapacity);
     }
 
     /**
@@ -45,13 +68,31 @@ public abstract class AbstractPlangMap<K, V> {
      *                              null
      */
     public AbstractPlangMap(Map<K, V> map) {
+        this(map, false);
+    }
+
+    /**
+     * Allocates a new map containing the given {@code map} as initial
+     * values, whose are copied to this map reference.
+     *
+     * @param map        the target initial values that are copied over
+     * @param concurrent true if this map should be backed by a concurrent
+     *                   map instead of being synchronized
+     * @throws NullPointerException if any value in {@code map} contains
+     *                              null
+     * @see #isConcurrent()
+     */
+    public AbstractPlangMap(Map<K, V> map, boolean concurrent) {
+        this.concurrent = concurrent;
         if (map != null && !map.isEmpty()) {
             for (Map.Entry<K, V> m : map.entrySet()) {
                 Objects.requireNonNull(m.getKey(), "Map Key");
                 Objects.requireNonNull(m.getValue(), "Map Value");
             }
-            this.map = createMap(map);
-        } else this.map = createMap(0);
+            this.map = concurrent ? createConcurrentMap(map) : createMap(map);
+        } else {
+            this.map = concurrent ? createConcurrentMap(0) : createMap(0);
+        }
     }
 
     /**
@@ -72,6 +113,44 @@ public abstract class AbstractPlangMap<K, V> {
      */
     abstract protected Map<K, V> createMap(int initialCapacity);
 
+    /**
+     * Returns a newly allocated thread-safe map implementation accepting
+     * given {@code input} as initial values, that is used if this map is
+     * concurrent.
+     *
+     * @param input the target initial values
+     * @return the newly allocated concurrent map instance
+     * @see #isConcurrent()
+     */
+    protected Map<K, V> createConcurrentMap(Map<K, V> input) {
+        return input == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(input);
+    }
+
+    /**
+     * Returns a newly allocated thread-safe map implementation accepting
+     * given {@code initialCapacity} as initial capacity, that is used if
+     * this map is concurrent.
+     *
+     * @param initialCapacity the target initial capacity of the map
+     * @return the newly allocated concurrent map instance
+     * @see #isConcurrent()
+     */
+    protected Map<K, V> createConcurrentMap(int initialCapacity) {
+        return new ConcurrentHashMap<>(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Returns true if this map is backed by a concurrent map, meaning
+     * that accesses are not synchronized on this map.
+     * <p>Compound operations of underlying implementations that must be
+     * atomic, are only atomic if this map is not concurrent.
+     *
+     * @return false if every access is synchronized on this map
+     */
+    public final boolean isConcurrent() {
+        return concurrent;
+    }
+
     /**
      * Returns true if {@code key} is already bound.
      *
@@ -79,8 +158,12 @@ public abstract class AbstractPlangMap<K, V> {
      * @return false if {@code key} is not bound
      * @see Map#containsKey(Object)
      */
-    protected synchronized boolean containsKey(Object key) {
-        return map.containsKey(key);
+    protected boolean containsKey(Object key) {
+        if (key == null) return false;
+        if (concurrent) return map.containsKey(key);
+        synchronized (this) {
+            return map.containsKey(key);
+        }
     }
 
     /**
@@ -90,8 +173,12 @@ public abstract class AbstractPlangMap<K, V> {
      * @return false if {@code value} is not bound
      * @see Map#containsValue(Object)
      */
-    protected synchronized boolean containsValue(Object value) {
-        return map.containsValue(value);
+    protected boolean containsValue(Object value) {
+        if (value == null) return false;
+        if (concurrent) return map.containsValue(value);
+        synchronized (this) {
+            return map.containsValue(value);
+        }
     }
 
     /**
@@ -101,9 +188,12 @@ public abstract class AbstractPlangMap<K, V> {
      * @return the value that is bound to {@code key}.
      * @throws NullPointerException if {@code key} is null
      */
-    protected synchronized V get(K key) {
+    protected V get(K key) {
         Objects.requireNonNull(key);
-        return map.get(key);
+        if (concurrent) return map.get(key);
+        synchronized (this) {
+            return map.get(key);
+        }
     }
 
     /**
@@ -116,10 +206,44 @@ public abstract class AbstractPlangMap<K, V> {
      * @throws NullPointerException if {@code key} or {@code value} is
      *                              null
      */
-    protected synchronized AbstractPlangMap<K, V> set(K key, V value) {
+    protected AbstractPlangMap<K, V> set(K key, V value) {
         Objects.requireNonNull(key, "Key");
         Objects.requireNonNull(value, "Value");
-        map.put(key, value);
+        if (concurrent) {
+            map.put(key, value);
+            return this;
+        }
+        synchronized (this) {
+            map.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Binds every value of the given {@code values} to its key and
+     * overwrites any equal key boundary.
+     * <p>Every entry is validated before any is bound, so that either all
+     * or none of the entries are bound.  If this map is not concurrent,
+     * all entries are bound within a single synchronized step.
+     *
+     * @param values the target values to be bound
+     * @return this instance for an easier development flow
+     * @throws NullPointerException if {@code values}, or any key or value
+     *                              contained in {@code values} is null
+     */
+    protected AbstractPlangMap<K, V> putAll(Map<? extends K, ? extends V> values) {
+        Objects.requireNonNull(values, "Values");
+        for (Map.Entry<? extends K, ? extends V> m : values.entrySet()) {
+            Objects.requireNonNull(m.getKey(), "Key");
+            Objects.requireNonNull(m.getValue(), "Value");
+        }
+        if (concurrent) {
+            map.putAll(values);
+            return this;
+        }
+        synchronized (this) {
+            map.putAll(values);
+        }
         return this;
     }
 
@@ -131,8 +255,12 @@ public abstract class AbstractPlangMap<K, V> {
      * @param name the target key to be removed
      * @return the bound value of {@code key}, or null if not bound
      */
-    protected synchronized V remove(K name) {
-        return map.remove(name);
+    protected V remove(K name) {
+        if (name == null) return null;
+        if (concurrent) return map.remove(name);
+        synchronized (this) {
+            return map.remove(name);
+        }
     }
 
     /**
@@ -143,8 +271,12 @@ public abstract class AbstractPlangMap<K, V> {
      * @param value the target value to be removed
      * @return true if the given pair is removed
      */
-    protected synchronized boolean remove(K key, V value) {
-        return map.remove(key, value);
+    protected boolean remove(K key, V value) {
+        if (key == null || value == null) return false;
+        if (concurrent) return map.remove(key, value);
+        synchronized (this) {
+            return map.remove(key, value);
+        }
     }
 
     /**
@@ -152,8 +284,11 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return the keys of this map
      */
-    protected synchronized Collection<K> keys() {
-        return map.keySet();
+    protected Collection<K> keys() {
+        if (concurrent) return map.keySet();
+        synchronized (this) {
+            return map.keySet();
+        }
     }
 
     /**
@@ -161,8 +296,11 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return the values of this map
      */
-    protected synchronized Collection<V> values() {
-        return map.values();
+    protected Collection<V> values() {
+        if (concurrent) return map.values();
+        synchronized (this) {
+            return map.values();
+        }
     }
 
     /**
@@ -170,8 +308,11 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return all concurrent entry pairs of this map
      */
-    protected synchronized Set<Map.Entry<K, V>> entries() {
-        return map.entrySet();
+    protected Set<Map.Entry<K, V>> entries() {
+        if (concurrent) return map.entrySet();
+        synchronized (this) {
+            return map.entrySet();
+        }
     }
 
     /**
@@ -179,8 +320,11 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return false if this map contains at least one valid entry
      */
-    protected synchronized boolean isEmpty() {
-        return map.isEmpty();
+    protected boolean isEmpty() {
+        if (concurrent) return map.isEmpty();
+        synchronized (this) {
+            return map.isEmpty();
+        }
     }
 
     /**
@@ -188,15 +332,24 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return the amount of entries concurrently contained
      */
-    protected synchronized int size() {
-        return map.size();
+    protected int size() {
+        if (concurrent) return map.size();
+        synchronized (this) {
+            return map.size();
+        }
     }
 
     /**
      * Clears every entry of this map.
      */
-    protected synchronized void clear() {
-        map.clear();
+    protected void clear() {
+        if (concurrent) {
+            map.clear();
+            return;
+        }
+        synchronized (this) {
+            map.clear();
+        }
     }
 
     /**
@@ -205,8 +358,11 @@ public abstract class AbstractPlangMap<K, V> {
      *
      * @return the immutable map copy
      */
-    protected synchronized Map<K, V> getMap() {
-        return createMap(map);
+    protected Map<K, V> getMap() {
+        if (concurrent) return createMap(map);
+        synchronized (this) {
+            return createMap(map);
+        }
     }
 
 
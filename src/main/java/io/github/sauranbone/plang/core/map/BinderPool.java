@@ -0,0 +1,130 @@
+package io.github.sauranbone.plang.core.map;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-local pool of reusable data binders, allowing frequent
+ * transformations to not allocate a new binder every time.
+ * <p>Every thread keeps its own stack of released binders, thus
+ * acquiring and releasing a binder is never contended.  Binders are
+ * acquired and released in LIFO order, so that nested transformations,
+ * like a placeholder transforming another message, are able to acquire
+ * their own binders while an outer binder is still in use:
+ * <pre><code>
+ *     DataBindMap data = BinderPool.MAPS.acquire();
+ *     try {
+ *         data.bind("userName", name);
+ *         return message.transform(data);
+ *     } finally {
+ *         BinderPool.MAPS.release(data);
+ *     }
+ * </code></pre>
+ * <p>A binder that has been released must no longer be used or
+ * referenced by the caller, as it is {@link DataBinder#clear() cleared}
+ * and handed out again by the next acquisition of the same thread.
+ *
+ * @param <T> the type of binders that are pooled
+ * @author agent
+ * @version 16:05 CEST, 17.10.2026
+ * @see DataBinder#clear()
+ * @since 1.0
+ */
+public class BinderPool<T extends DataBinder> {
+
+    /**
+     * The default maximum amount of binders kept per thread.
+     */
+    public static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * Shared pool of case-insensitive binding maps.
+     *
+     * @see DataBindMap#DataBindMap()
+     */
+    public static final BinderPool<DataBindMap> MAPS = new BinderPool<>(DataBindMap::new);
+
+    /**
+     * Shared pool of positional binders.
+     *
+     * @see IndexedDataBinder#IndexedDataBinder()
+     */
+    public static final BinderPool<IndexedDataBinder> INDEXED = new BinderPool<>(IndexedDataBinder::new);
+
+    /**
+     * Shared pool of detached knowledge views, used by every message to
+     * transform without allocating a view.
+     *
+     * @see KnowledgeBinder
+     */
+    public static final BinderPool<KnowledgeBinder> KNOWLEDGE = new BinderPool<>(KnowledgeBinder::new);
+
+    private final Supplier<? extends T> factory;
+
+    private final int capacity;
+
+    private final ThreadLocal<ArrayDeque<T>> stacks = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Allocates a new pool keeping up to {@link #DEFAULT_CAPACITY}
+     * binders per thread.
+     *
+     * @param factory the factory allocating new binders
+     * @throws NullPointerException if {@code factory} is null
+     */
+    public BinderPool(Supplier<? extends T> factory) {
+        this(factory, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Allocates a new pool keeping up to {@code capacity} binders per
+     * thread.
+     *
+     * @param factory  the factory allocating new binders
+     * @param capacity the maximum amount of binders kept per thread
+     * @throws NullPointerException if {@code factory} is null
+     */
+    public BinderPool(Supplier<? extends T> factory, int capacity) {
+        Objects.requireNonNull(factory, "Factory");
+        this.factory = factory;
+        this.capacity = Math.max(capacity, 0);
+    }
+
+    /**
+     * Returns an empty binder, that is either reused from this thread's
+     * stack or newly allocated if the stack is empty.
+     *
+     * @return an empty binder, {@code not null}
+     * @throws NullPointerException if the factory returns null
+     */
+    public T acquire() {
+        T binder = stacks.get().pollFirst();
+        if (binder != null) return binder;
+        return Objects.requireNonNull(factory.get(), "Allocated binder");
+    }
+
+    /**
+     * Clears the given {@code binder} and returns it to this thread's
+     * stack, if the stack has not reached its capacity yet.
+     *
+     * @param binder the binder to be released
+     * @throws NullPointerException if {@code binder} is null
+     */
+    public void release(T binder) {
+        Objects.requireNonNull(binder, "Binder");
+        binder.clear();
+        ArrayDeque<T> stack = stacks.get();
+        if (stack.size() < capacity) stack.addFirst(binder);
+    }
+
+    /**
+     * Returns the maximum amount of binders kept per thread.
+     *
+     * @return the capacity of this pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+}
@@ -22,6 +22,8 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
 
     final boolean caseSensitive;
 
+    final boolean hierarchical;
+
     /**
      * Allocates a new binding map with no initial values that is
      * case-insensitive.
@@ -90,8 +92,29 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
      * @see #isCaseSensitive()
      */
     public DataBindMap(int initialCapacity, boolean caseSensitive) {
+        this(initialCapacity, caseSensitive, false);
+    }
+
+    /**
+     * Allocates a new binding map using given {@code initialCapacity}.
+     * <p>If {@code caseSensitive} is false, object keys that are bound
+     * using string class type are made lowercase in order to provide a
+     * case-insensitivity.
+     * <p>If {@code hierarchical} is true, a value bound to a type is
+     * bound to every type it is assignable to instead of only the highest
+     * superclass, including its interfaces.  Thus, placeholders accepting
+     * an interface or a subclass are matched exactly.
+     *
+     * @param initialCapacity the target initial capacity of this map
+     * @param caseSensitive   false to enable case-insensitivity.
+     * @param hierarchical    true to enable hierarchical type boundaries
+     * @see #isCaseSensitive()
+     * @see #isHierarchical()
+     */
+    public DataBindMap(int initialCapacity, boolean caseSensitive, boolean hierarchical) {
         super(initialCapacity);
         this.caseSensitive = caseSensitive;
+        this.hierarchical = hierarchical;
     }
 
     /**
@@ -108,6 +131,7 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
     public DataBindMap(Map<Object, Object> map, boolean caseSensitive) {
         super(map);
         this.caseSensitive = caseSensitive;
+        this.hierarchical = false;
         evalall();
     }
 
@@ -159,6 +183,28 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
         return map;
     }
 
+    /**
+     * Allocates a new hierarchical binding map having the given different
+     * {@code types} bound to every type they are assignable to.
+     * <p>If {@code types} contains any null value it is skipped and not
+     * bound.
+     *
+     * @param types the target objects whose types are bound to the
+     *              returning map
+     * @see #DataBindMap(int, boolean, boolean)
+     * @see #isHierarchical()
+     * @see PlangUtils#getAssignableTypes(Class)
+     */
+    public static DataBindMap typesHierarchical(Object... types) {
+        DataBindMap map = new DataBindMap(0, DEFAULT_CASE_SENSITIVITY, true);
+        if (ArrayUtils.isEmpty(types)) return map;
+        for (Object type : types) {
+            if (type == null) continue;
+            map.bindType(type);
+        }
+        return map;
+    }
+
 
     /**
      * Allocates a new binding map having every element within {@code
@@ -198,11 +244,35 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
         return caseSensitive;
     }
 
+    /**
+     * Returns true if values bound to a type are bound to every type they
+     * are assignable to, rather than only to their highest superclass.
+     *
+     * @return false if types are bound to their highest superclass
+     * (default: false)
+     * @see PlangUtils#getAssignableTypes(Class)
+     * @see PlangUtils#getTopSuperclass(Class)
+     */
+    public final boolean isHierarchical() {
+        return hierarchical;
+    }
+
+    @Override
+    public DataBindMap bind(String placeholder, Object value) {
+        return bindToObjectKey(placeholder, value);
+    }
+
     @Override
     public DataBindMap bindToObjectKey(Object key, Object value) {
         Object obj = computeKey(key);
         if (obj instanceof Integer) {
             evalidx((int) obj, true);
+        } else if (hierarchical && obj instanceof Class) {
+            //Bind to every precomputed assignable type
+            for (Class<?> type : PlangUtils.getAssignableTypes((Class<?>) obj)) {
+                super.set(type, value);
+            }
+            return this;
         }
         super.set(obj, value);
         return this;
@@ -222,7 +292,16 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
     public boolean unbind(Object key) {
         Object obj = computeKey(key);
         if (!isBound(obj)) return false;
-        evalidx((int) obj, false);
+        if (obj instanceof Integer) {
+            evalidx((int) obj, false);
+        } else if (hierarchical && obj instanceof Class) {
+            //Unbind the value from every type it has been bound to
+            Object value = super.get(obj);
+            for (Class<?> type : PlangUtils.getAssignableTypes((Class<?>) obj)) {
+                super.remove(type, value);
+            }
+            return true;
+        }
         super.remove(obj);
         return true;
     }
@@ -237,6 +316,11 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
         return super.get(computeKey(key));
     }
 
+    @Override
+    public Object lookup(Object computedKey) {
+        return super.get(computedKey);
+    }
+
     @Override
     public Object computeKey(Object key) {
         Objects.requireNonNull(key);
@@ -245,6 +329,7 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
         } else if (key instanceof Number) {
             return checkIndex(((Number) key).intValue());
         } else if (key instanceof Class) {
+            if (hierarchical) return key;
             return PlangUtils.getTopSuperclass((Class<?>) key);
         }
         return key;
@@ -275,6 +360,15 @@ public class DataBindMap extends HashPlangMap<Object, Object> implements DataBin
         return super.isEmpty();
     }
 
+    @Override
+    public void clear() {
+        synchronized (this) {
+            super.clear();
+            high = -1;
+            midst = -1;
+        }
+    }
+
     @Override
     public int size() {
         return super.size();
@@ -4,10 +4,21 @@ import io.github.sauranbone.plang.core.PlangUtils;
 import io.github.sauranbone.plang.core.placeholder.Placeholder;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
 
 /**
+ * Binder of the data a message is transformed with, binding values to
+ * positional indices, placeholder names and types.
+ * <p>The methods {@link #bindToObjectKey(Object, Object)} and
+ * {@link #push(Object...)} return a {@link DataBindMap} and are thus
+ * optional for binders that are not a {@link DataBindMap}, as are the
+ * binding methods delegating to them.  Such binders throw an
+ * {@link UnsupportedOperationException} instead, like the
+ * {@link IndexedDataBinder}, whereas {@link #bind(int, Object)} is
+ * supported by every binder.
+ *
  * @author Vinzent Zeband
  * @version 23:33 CET, 12.02.2022
  * @since 1.0
@@ -149,10 +160,14 @@ public interface DataBinder {
      * @param value the target value that is assigned to {@code key} as
      *              key
      * @return this instance to enable method chaining
-     * @throws NullPointerException      if {@code key} is null
-     * @throws IndexOutOfBoundsException if {@code key} is a number and
-     *                                   below zero or above or equal to
-     *                                   {@link Integer#MAX_VALUE}
+     * @throws NullPointerException          if {@code key} is null
+     * @throws IndexOutOfBoundsException     if {@code key} is a number
+     *                                       and below zero or above or
+     *                                       equal to
+     *                                       {@link Integer#MAX_VALUE}
+     * @throws UnsupportedOperationException if this binder is not a
+     *                                       {@link DataBindMap} and does
+     *                                       not support this operation
      * @apiNote For most use cases that involves the given {@code key} not
      * to be a {@link #computeKey(Object) computable} key, this method is
      * considered redundant as its binding pair may be not used by the
@@ -176,8 +191,12 @@ public interface DataBinder {
      *
      * @param values the target values to be added,
      * @return this instance to enable method chaining
-     * @throws IndexOutOfBoundsException if the offset index is above the
-     *                                   maximum range of integer values
+     * @throws IndexOutOfBoundsException     if the offset index is above
+     *                                       the maximum range of integer
+     *                                       values
+     * @throws UnsupportedOperationException if this binder is not a
+     *                                       {@link DataBindMap} and does
+     *                                       not support this operation
      * @see #bind(int, Object)
      */
     DataBindMap push(Object... values);
@@ -196,6 +215,23 @@ public interface DataBinder {
      */
     boolean unbind(Object key);
 
+    /**
+     * Unbinds every key of this binder, so that this binder can be reused
+     * for another transformation as if it has been newly allocated.
+     * <p>Implementations should keep their allocated capacity, so that
+     * reusing a binder does not allocate again.
+     *
+     * @throws UnsupportedOperationException if this binder is read-only
+     * @implSpec The default implementation unbinds a copy of every key
+     * of this binder using {@link #unbind(Object)}.
+     * @see BinderPool
+     */
+    default void clear() {
+        for (Object key : new ArrayList<>(keys())) {
+            unbind(key);
+        }
+    }
+
     /**
      * Returns true if the computed version of {@code key} is already bound
      * within this binder.
@@ -208,6 +244,37 @@ public interface DataBinder {
      */
     boolean isBound(Object key);
 
+    /**
+     * Returns true if the given {@code index} is already bound within this
+     * binder.
+     *
+     * @param index the target index to be checked if bound
+     * @return false if {@code index} is not bound concurrently
+     * @throws IndexOutOfBoundsException if {@code index} is below zero
+     * @implSpec The default implementation boxes {@code index} and calls
+     * {@link #isBound(Object)}.  Positional binders should override this
+     * method to avoid boxing and key computation.
+     * @see IndexedDataBinder
+     */
+    default boolean isBound(int index) {
+        return isBound((Object) index);
+    }
+
+    /**
+     * Returns the value that is bound to the given {@code index}.
+     *
+     * @param index the target index that is targeted
+     * @return the bound value, {@code nullable}
+     * @throws IndexOutOfBoundsException if {@code index} is below zero
+     * @implSpec The default implementation boxes {@code index} and calls
+     * {@link #get(Object)}.  Positional binders should override this
+     * method to avoid boxing and key computation.
+     * @see IndexedDataBinder
+     */
+    default Object get(int index) {
+        return get((Object) index);
+    }
+
     /**
      * Returns true if {@code obj}'s class is already bound as a type.
      *
@@ -237,6 +304,28 @@ public interface DataBinder {
      */
     Object get(Object key);
 
+    /**
+     * Returns the value that is bound to the given already computed
+     * {@code computedKey}, or null if it is not bound.
+     * <p>Unlike {@link #isBound(Object)} and {@link #get(Object)}, the
+     * given key is not computed again and is looked up only once, which
+     * allows processors to compute their keys ahead of time, such as
+     * lowercase placeholder names, boxed indices and top superclasses.
+     * <p>As null values cannot be bound, a returned null value always
+     * means that {@code computedKey} is not bound.
+     *
+     * @param computedKey the key that has already been computed, as if by
+     *                    {@link #computeKey(Object)}
+     * @return the bound value, or null if {@code computedKey} is unbound
+     * @throws NullPointerException if {@code computedKey} is null
+     * @implSpec The default implementation calls {@link #isBound(Object)}
+     * and then {@link #get(Object)}, thus computes the key twice.
+     * @see #computeKey(Object)
+     */
+    default Object lookup(Object computedKey) {
+        return isBound(computedKey) ? get(computedKey) : null;
+    }
+
     /**
      * Computes the given {@code key} and testing and maybe modifies it, so
      * it is fitting this binder's configuration and finally returns the
@@ -248,7 +337,8 @@ public interface DataBinder {
      * handled as an integer index, that is validated and checked.
      * <p>If the given {@code key} is a class, the class's highest
      * superclass, except object, is determined and used to allow
-     * contravariance.
+     * contravariance, unless the binder binds types hierarchically, in
+     * which case the class is used as is.
      * <p>If {@code key} is anything but of type string, number or a
      * class, it is computed as is, meaning the returning key is equal and
      * indistinguishable to {@code key}.
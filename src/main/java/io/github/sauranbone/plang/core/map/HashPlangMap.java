@@ -31,6 +31,18 @@ public abstract class HashPlangMap<K, V> extends AbstractPlangMap<K, V> {
         super(initialCapacity);
     }
 
+    /**
+     * Allocates a new map having the given {@code initialCapacity}.
+     *
+     * @param initialCapacity the initial capacity of this map
+     * @param concurrent      true if this map should be backed by a
+     *                        concurrent map instead of being synchronized
+     * @see AbstractPlangMap#isConcurrent()
+     */
+    public HashPlangMap(int initialCapacity, boolean concurrent) {
+        super(initialCapacity, concurrent);
+    }
+
     /**
      * Allocates a new map containing the given {@code map} as initial
      * values, whose are copied to this map reference.
@@ -43,6 +55,21 @@ public abstract class HashPlangMap<K, V> extends AbstractPlangMap<K, V> {
         super(map);
     }
 
+    /**
+     * Allocates a new map containing the given {@code map} as initial
+     * values, whose are copied to this map reference.
+     *
+     * @param map        the target initial values that are copied over
+     * @param concurrent true if this map should be backed by a concurrent
+     *                   map instead of being synchronized
+     * @throws NullPointerException if any value in {@code map} contains
+     *                              null
+     * @see AbstractPlangMap#isConcurrent()
+     */
+    public HashPlangMap(Map<K, V> map, boolean concurrent) {
+        super(map, concurrent);
+    }
+
     @Override
     protected final Map<K, V> createMap(Map<K, V> input) {
         return input == null ? new HashMap<>() : new HashMap<>(input);
@@ -0,0 +1,256 @@
+package io.github.sauranbone.plang.core.map;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Positional data binding implementation consisting of a plain array,
+ * whose elements are bound to their corresponding index.
+ * <p>Unlike a {@link DataBindMap}, this binder does not box, hash or
+ * compute any index, so that looking up a positional placeholder is a
+ * plain array access.  It is meant for messages that are transformed
+ * using positional arguments only:
+ * <pre><code>
+ *     message.transform(IndexedDataBinder.of("Vinzent", 18));
+ * </code></pre>
+ * <p>Only indices can be bound, using {@link #bind(int, Object)} or
+ * {@link #append(Object...)}.  The {@link DataBindMap} returning methods
+ * {@link #bindToObjectKey(Object, Object)} and {@link #push(Object...)}
+ * are not supported, thus binding a placeholder name or a type throws an
+ * {@link UnsupportedOperationException}.  Code binding data through these
+ * methods of any {@link DataBinder} must thus be given a
+ * {@link DataBindMap} instead.
+ * As null values cannot be bound, a null element is treated as not bound.
+ * <p>This binder is not thread-safe for mutations, but can be shared
+ * between concurrent transformations once it is no longer mutated.
+ *
+ * @author agent
+ * @version 16:03 CEST, 17.10.2026
+ * @see DataBindMap#index(Object...)
+ * @since 1.0
+ */
+public class IndexedDataBinder implements DataBinder {
+
+    private Object[] values;
+
+    //The amount of bound (non-null) elements
+    private int size;
+
+    private int high = -1;
+
+    /**
+     * Allocates a new positional binder having no initial values.
+     */
+    public IndexedDataBinder() {
+        this(0);
+    }
+
+    /**
+     * Allocates a new positional binder having the given
+     * {@code initialCapacity}.
+     *
+     * @param initialCapacity the target initial capacity of indices
+     */
+    public IndexedDataBinder(int initialCapacity) {
+        this.values = new Object[Math.max(initialCapacity, 0)];
+    }
+
+    private IndexedDataBinder(Object[] values) {
+        this.values = values;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) continue;
+            ++size;
+            high = i;
+        }
+    }
+
+    /**
+     * Returns a positional binder having every element of the given
+     * {@code values} bound to its corresponding index.
+     * <p>The given {@code values} array is used as is and thus not
+     * copied, meaning that later writes to the array are visible to the
+     * binder, but the highest index and size are only evaluated once.
+     *
+     * @param values the target values to be bound, {@code nullable}
+     * @return the newly allocated positional binder
+     */
+    public static IndexedDataBinder of(Object... values) {
+        return new IndexedDataBinder(values == null ? ArrayUtils.EMPTY_OBJECT_ARRAY : values);
+    }
+
+    /**
+     * Returns false, as this binder does not bind any placeholder names.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isCaseSensitive() {
+        return false;
+    }
+
+    @Override
+    public void bind(int index, Object value) {
+        Objects.requireNonNull(value, "Value");
+        checkIndex(index);
+        if (index >= values.length) {
+            //Grow by half of the required capacity
+            values = Arrays.copyOf(values, Math.max(index + 1, index + (index >> 1)));
+        }
+        if (values[index] == null) ++size;
+        values[index] = value;
+        if (index > high) high = index;
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException}, as this binder is
+     * not a {@link DataBindMap}.
+     *
+     * @param key   the target key to assign {@code value} to
+     * @param value the target value that is assigned to {@code key}
+     * @return never
+     * @throws UnsupportedOperationException always
+     * @see #bind(int, Object)
+     */
+    @Override
+    public DataBindMap bindToObjectKey(Object key, Object value) {
+        throw new UnsupportedOperationException("Only indices can be bound");
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException}, as this binder is
+     * not a {@link DataBindMap}.
+     *
+     * @param values the target values to be pushed
+     * @return never
+     * @throws UnsupportedOperationException always
+     * @see #append(Object...)
+     */
+    @Override
+    public DataBindMap push(Object... values) {
+        throw new UnsupportedOperationException("Use append to push indices");
+    }
+
+    /**
+     * Binds each element of given {@code values} to their corresponding
+     * index, offset by the highest index bound plus one.
+     *
+     * @param values the target values to be appended
+     * @return this instance to enable method chaining
+     * @throws NullPointerException      if any element is null
+     * @throws IndexOutOfBoundsException if the resulting index exceeds the
+     *                                   maximum range of integer values
+     * @see #push(Object...)
+     */
+    public IndexedDataBinder append(Object... values) {
+        if (ArrayUtils.isEmpty(values)) return this;
+        final int offset = high + 1;
+        if (offset + values.length < 0)
+            throw new IndexOutOfBoundsException("Index has exceeded MAX_VALUE");
+        for (int i = 0; i < values.length; i++) {
+            bind(offset + i, values[i]);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean unbind(Object key) {
+        if (!(key instanceof Number)) return false;
+        int index = checkIndex(((Number) key).intValue());
+        if (!isBound(index)) return false;
+        values[index] = null;
+        --size;
+        if (index == high) {
+            //Re-evaluate the highest index
+            do {
+                --high;
+            } while (high >= 0 && values[high] == null);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isBound(int index) {
+        return index >= 0 && index < values.length && values[index] != null;
+    }
+
+    @Override
+    public Object get(int index) {
+        return index >= 0 && index < values.length ? values[index] : null;
+    }
+
+    @Override
+    public boolean isBound(Object key) {
+        return key instanceof Number && isBound(checkIndex(((Number) key).intValue()));
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof Number ? get(checkIndex(((Number) key).intValue())) : null;
+    }
+
+    @Override
+    public Object lookup(Object computedKey) {
+        Objects.requireNonNull(computedKey);
+        return computedKey instanceof Integer ? get((int) computedKey) : null;
+    }
+
+    @Override
+    public Object computeKey(Object key) {
+        Objects.requireNonNull(key);
+        if (key instanceof Number) {
+            return checkIndex(((Number) key).intValue());
+        }
+        return key;
+    }
+
+    @Override
+    public int getHighestIndex() {
+        return high;
+    }
+
+    @Override
+    public Collection<Object> keys() {
+        Collection<Object> keys = new ArrayList<>(size);
+        for (int i = 0; i <= high; i++) {
+            if (values[i] != null) keys.add(i);
+        }
+        return keys;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        Collection<Object> values = new ArrayList<>(size);
+        for (int i = 0; i <= high; i++) {
+            if (this.values[i] != null) values.add(this.values[i]);
+        }
+        return values;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, high + 1, null);
+        size = 0;
+        high = -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static int checkIndex(int index) {
+        if (index < 0 || index == Integer.MAX_VALUE)
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        return index;
+    }
+
+}
@@ -0,0 +1,217 @@
+package io.github.sauranbone.plang.core.map;
+
+import io.github.sauranbone.plang.core.PlangUtils;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Read-only data binder view, that adds the language and message of a
+ * transformation as type boundaries to another binder without mutating
+ * it.
+ * <p>Any lookup is first answered by the underlying binder, thus its
+ * boundaries have precedence, and only if the looked up key is not bound
+ * there, it is compared against the top superclass of the language and
+ * message type.  This replaces binding the language and message into the
+ * caller's binder, so that a binder can be shared and a message can be
+ * transformed by many threads at once.
+ * <p>Every mutating method throws an {@link UnsupportedOperationException},
+ * except {@link #clear()}, which detaches this view from its binder,
+ * language and message without mutating them.  This allows views to be
+ * reused through the {@link BinderPool#KNOWLEDGE pool} and attached to
+ * another transformation, so that transforming a message does not
+ * allocate a view:
+ * <pre><code>
+ *     KnowledgeBinder knowledge = BinderPool.KNOWLEDGE.acquire();
+ *     try {
+ *         knowledge.attach(data, language, message);
+ *         //...
+ *     } finally {
+ *         BinderPool.KNOWLEDGE.release(knowledge);
+ *     }
+ * </code></pre>
+ *
+ * @author agent
+ * @version 16:02 CEST, 17.10.2026
+ * @see Message#transform(DataBinder)
+ * @since 1.0
+ */
+public class KnowledgeBinder implements DataBinder {
+
+    private DataBinder data;
+    private Language language;
+    private Message message;
+    private Class<?> languageType, messageType;
+
+    /**
+     * Allocates a new detached knowledge view, that must be
+     * {@link #attach(DataBinder, Language, Message) attached} before use.
+     *
+     * @see BinderPool#KNOWLEDGE
+     */
+    public KnowledgeBinder() {
+    }
+
+    /**
+     * Allocates a new knowledge view on top of the given {@code data}.
+     *
+     * @param data     the underlying binder, whose boundaries have
+     *                 precedence
+     * @param language the language of the transformation
+     * @param message  the message that is transformed
+     * @throws NullPointerException if any argument is null
+     */
+    public KnowledgeBinder(DataBinder data, Language language, Message message) {
+        attach(data, language, message);
+    }
+
+    /**
+     * Attaches this view on top of the given {@code data}, replacing any
+     * binder, language and message this view has been attached to.
+     *
+     * @param data     the underlying binder, whose boundaries have
+     *                 precedence
+     * @param language the language of the transformation
+     * @param message  the message that is transformed
+     * @return this instance
+     * @throws NullPointerException if any argument is null
+     */
+    public KnowledgeBinder attach(DataBinder data, Language language, Message message) {
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        this.data = data;
+        this.language = language;
+        this.message = message;
+        this.languageType = PlangUtils.getTopSuperclass(language.getClass());
+        this.messageType = PlangUtils.getTopSuperclass(message.getClass());
+        return this;
+    }
+
+    /**
+     * Returns the underlying binder of this view.
+     *
+     * @return the underlying binder, {@code nullable} if detached
+     */
+    public DataBinder getData() {
+        return data;
+    }
+
+    /**
+     * Returns the message that is known to this view.
+     *
+     * @return the known message, {@code nullable} if detached
+     */
+    public Message getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean isCaseSensitive() {
+        return data.isCaseSensitive();
+    }
+
+    @Override
+    public DataBindMap bindToObjectKey(Object key, Object value) {
+        throw new UnsupportedOperationException("Knowledge is read-only");
+    }
+
+    @Override
+    public DataBindMap push(Object... values) {
+        throw new UnsupportedOperationException("Knowledge is read-only");
+    }
+
+    @Override
+    public boolean unbind(Object key) {
+        throw new UnsupportedOperationException("Knowledge is read-only");
+    }
+
+    /**
+     * Detaches this view from its binder, language and message, without
+     * mutating any of them.
+     */
+    @Override
+    public void clear() {
+        data = null;
+        language = null;
+        message = null;
+        languageType = messageType = null;
+    }
+
+    @Override
+    public boolean isBound(Object key) {
+        return data.isBound(key) || getKnowledge(data.computeKey(key)) != null;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (data.isBound(key)) return data.get(key);
+        return getKnowledge(data.computeKey(key));
+    }
+
+    @Override
+    public boolean isBound(int index) {
+        return data.isBound(index);
+    }
+
+    @Override
+    public Object get(int index) {
+        return data.get(index);
+    }
+
+    @Override
+    public Object lookup(Object computedKey) {
+        Object value = data.lookup(computedKey);
+        return value != null ? value : getKnowledge(computedKey);
+    }
+
+    @Override
+    public Object computeKey(Object key) {
+        return data.computeKey(key);
+    }
+
+    @Override
+    public int getHighestIndex() {
+        return data.getHighestIndex();
+    }
+
+    @Override
+    public Collection<Object> keys() {
+        Collection<Object> keys = new ArrayList<>(data.keys());
+        if (!data.isBound(languageType)) keys.add(languageType);
+        if (!data.isBound(messageType)) keys.add(messageType);
+        return Collections.unmodifiableCollection(keys);
+    }
+
+    @Override
+    public Collection<Object> values() {
+        Collection<Object> values = new ArrayList<>(data.values());
+        if (!data.isBound(languageType)) values.add(language);
+        if (!data.isBound(messageType)) values.add(message);
+        return Collections.unmodifiableCollection(values);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public int size() {
+        int size = data.size();
+        if (!data.isBound(languageType)) ++size;
+        if (!data.isBound(messageType)) ++size;
+        return size;
+    }
+
+    private Object getKnowledge(Object computedKey) {
+        if (computedKey == languageType) return language;
+        if (computedKey == messageType) return message;
+        return null;
+    }
+
+}
@@ -0,0 +1,127 @@
+package io.github.sauranbone.plang.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds, that trades precision
+ * for a constant footprint and a contention-free record.
+ * <p>Every power of two is split into four buckets, so that any
+ * percentile is reported with an error of less than a quarter of its
+ * value, while latencies of up to {@link Long#MAX_VALUE} are recorded.
+ * <p>Recording is a single increment of a striped counter, thus readings
+ * taken while recording concurrently are not an atomic snapshot.
+ *
+ * @author agent
+ * @version 16:29 CEST, 17.10.2026
+ * @see MetricsRecorder
+ * @since 1.0
+ */
+public class LatencyHistogram {
+
+    //Four buckets per power of two from 2^2 up to 2^62, plus zero to three
+    private static final int BUCKETS = 248;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    private final LongAdder total = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Records the given latency, whereas negative latencies are recorded
+     * as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[indexOf(nanos)].increment();
+        total.add(nanos);
+    }
+
+    /**
+     * Returns the amount of latencies recorded.
+     *
+     * @return the amount of latencies
+     */
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) count += bucket.sum();
+        return count;
+    }
+
+    /**
+     * Returns the sum of every latency recorded.
+     *
+     * @return the total latency in nanoseconds
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the mean of every latency recorded.
+     *
+     * @return the mean latency in nanoseconds, or {@code 0} if none
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getTotal() / count;
+    }
+
+    /**
+     * Returns the upper bound of the bucket containing the given
+     * {@code percentile} of the recorded latencies.
+     *
+     * @param percentile the target percentile, such as {@code 99.0}
+     * @return the percentile latency in nanoseconds, or {@code 0} if none
+     * @throws IllegalArgumentException if {@code percentile} is not within
+     *                                  {@code 0} and {@code 100}
+     */
+    public long getPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Percentile out of range");
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) count += counts[i] = buckets[i].sum();
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        for (int i = 0; i < BUCKETS; i++) {
+            if ((rank -= counts[i]) <= 0) return upperBoundOf(i);
+        }
+        return upperBoundOf(BUCKETS - 1);
+    }
+
+    /**
+     * Resets every recorded latency.
+     * <p>Latencies that are recorded concurrently may be partially kept.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) bucket.reset();
+        total.reset();
+    }
+
+    static int indexOf(long nanos) {
+        if (nanos < 4) return (int) nanos;
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int fraction = (int) (nanos >>> (exponent - 2)) & 3;
+        return (exponent - 1) << 2 | fraction;
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < 4) return index;
+        int exponent = (index >>> 2) + 1;
+        long width = 1L << (exponent - 2);
+        long lower = (4 | index & 3) * width;
+        return lower + (width - 1);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + getCount() + ", mean=" + (long) getMean()
+                + "ns, p50=" + getPercentile(50) + "ns, p99=" + getPercentile(99) + "ns";
+    }
+
+}
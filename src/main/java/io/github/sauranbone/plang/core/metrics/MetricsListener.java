@@ -0,0 +1,101 @@
+package io.github.sauranbone.plang.core.metrics;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+import io.github.sauranbone.plang.core.specific.MessageRegistry;
+
+/**
+ * Interface implemented to observe the processing of messages, which is
+ * notified by languages and registries around lexing, parsing,
+ * transforming and looking up messages.
+ * <p>The listener can be used to bridge any metrics library without the
+ * library depending on it, or to record metrics using the
+ * {@link MetricsRecorder}.  Every method is a no-op by default, thus an
+ * implementation only overrides the events it is interested in.
+ * <p>Callers check {@link #isEnabled()} before measuring any latency, so
+ * that a language using the {@link #NOOP} listener, which is the default,
+ * neither reads the clock nor notifies anything:
+ * <pre><code>
+ *     MetricsListener metrics = language.getMetrics();
+ *     long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+ *     //...
+ *     if (metrics.isEnabled())
+ *         metrics.onTransform(message, System.nanoTime() - start);
+ * </code></pre>
+ * <p>Listeners are notified by whatever thread is processing, thus must be
+ * thread-safe and should not block.
+ *
+ * @author agent
+ * @version 16:29 CEST, 17.10.2026
+ * @see Language#setMetrics(MetricsListener)
+ * @see MetricsRecorder
+ * @since 1.0
+ */
+public interface MetricsListener {
+
+    /**
+     * Listener that is disabled and thus never notified.
+     */
+    MetricsListener NOOP = new MetricsListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    /**
+     * Returns true if this listener should be notified, thus latencies
+     * should be measured.
+     *
+     * @return false if this listener is never notified
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called after the content of a message has been tokenized.
+     *
+     * @param language the language whose lexer tokenized the content
+     * @param nanos    the elapsed time in nanoseconds
+     * @see Language#parse(String)
+     */
+    default void onLex(Language language, long nanos) {
+    }
+
+    /**
+     * Called after the tokens of a message have been parsed.
+     *
+     * @param language the language whose parser parsed the tokens
+     * @param nanos    the elapsed time in nanoseconds
+     * @see Language#parse(String)
+     */
+    default void onParse(Language language, long nanos) {
+    }
+
+    /**
+     * Called after the given {@code message} has been transformed.
+     *
+     * @param message the transformed message, whose key is
+     *                {@code nullable}
+     * @param nanos   the elapsed time in nanoseconds
+     * @see Message#transform(io.github.sauranbone.plang.core.map.DataBinder)
+     */
+    default void onTransform(Message message, long nanos) {
+    }
+
+    /**
+     * Called after a message has been looked up in the registry of the
+     * given {@code language}.
+     *
+     * @param language the language of the registry
+     * @param key      the key that has been looked up
+     * @param found    false if no message is registered at {@code key}
+     * @param nanos    the elapsed time in nanoseconds
+     * @see MessageRegistry#get(String, java.util.function.Supplier)
+     * @see MessageRegistry#find(String)
+     */
+    default void onLookup(Language language, String key, boolean found, long nanos) {
+    }
+
+}
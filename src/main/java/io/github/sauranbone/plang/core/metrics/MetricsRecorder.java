@@ -0,0 +1,338 @@
+package io.github.sauranbone.plang.core.metrics;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics listener recording counts, latency histograms and miss rates
+ * per language and per message key, that can be read at any time.
+ * <p>Every language has its own {@link LanguageMetrics}, containing the
+ * histograms of lexing, parsing, transforming and looking up, as well as
+ * a {@link KeyMetrics} for every message key transformed or looked up,
+ * including its miss rate:
+ * <pre><code>
+ *     MetricsRecorder metrics = new MetricsRecorder();
+ *     language.setMetrics(metrics);
+ *     //...
+ *     LanguageMetrics english = metrics.getMetrics(language);
+ *     long p99 = english.getTransformLatency().getPercentile(99);
+ *     List&lt;KeyMetrics&gt; hottest = english.getHottest(10);
+ * </code></pre>
+ * <p>As catalogs may contain hundreds of thousands of messages, a key only
+ * has its own latency histogram if this recorder has been allocated with
+ * {@code keyHistograms} enabled, otherwise it only records its counts and
+ * its total latency.
+ * <p>Keys that have not been transformed or found yet, but are missed,
+ * are tracked up to {@link #MAX_MISSED_KEYS} per language, so that
+ * looking up arbitrary keys cannot grow the recorded metrics without
+ * bound.  Misses of any further key are still counted by the language.
+ *
+ * @author agent
+ * @version 16:29 CEST, 17.10.2026
+ * @see MetricsListener
+ * @see Language#setMetrics(MetricsListener)
+ * @since 1.0
+ */
+public class MetricsRecorder implements MetricsListener {
+
+    /**
+     * The maximum amount of keys per language that are tracked although
+     * they have only been missed, which may be exceeded slightly by
+     * concurrent lookups.
+     */
+    public static final int MAX_MISSED_KEYS = 1024;
+
+    private final boolean keyHistograms;
+
+    private final Map<Language, LanguageMetrics> languages = new ConcurrentHashMap<>();
+
+    /**
+     * Allocates a new recorder not recording latency histograms per key.
+     */
+    public MetricsRecorder() {
+        this(false);
+    }
+
+    /**
+     * Allocates a new recorder, that records a latency histogram of every
+     * key if {@code keyHistograms} is true.
+     *
+     * @param keyHistograms true if every key should have a histogram
+     */
+    public MetricsRecorder(boolean keyHistograms) {
+        this.keyHistograms = keyHistograms;
+    }
+
+    @Override
+    public void onLex(Language language, long nanos) {
+        getOrCreate(language).lex.record(nanos);
+    }
+
+    @Override
+    public void onParse(Language language, long nanos) {
+        getOrCreate(language).parse.record(nanos);
+    }
+
+    @Override
+    public void onTransform(Message message, long nanos) {
+        LanguageMetrics metrics = getOrCreate(message.getLanguage());
+        metrics.transform.record(nanos);
+        String key = message.getKey();
+        if (key == null) return;
+        KeyMetrics keyMetrics = metrics.getOrCreate(key);
+        keyMetrics.transforms.increment();
+        keyMetrics.total.add(nanos);
+        if (keyMetrics.latency != null) keyMetrics.latency.record(nanos);
+    }
+
+    @Override
+    public void onLookup(Language language, String key, boolean found, long nanos) {
+        LanguageMetrics metrics = getOrCreate(language);
+        metrics.lookup.record(nanos);
+        if (found) {
+            metrics.getOrCreate(key).lookups.increment();
+            return;
+        }
+        metrics.misses.increment();
+        KeyMetrics keyMetrics = metrics.getOrCreateMissed(key);
+        if (keyMetrics == null) return;
+        keyMetrics.lookups.increment();
+        keyMetrics.misses.increment();
+    }
+
+    /**
+     * Returns the metrics recorded for the given {@code language}.
+     *
+     * @param language the target language
+     * @return the metrics of {@code language}, {@code nullable} if nothing
+     * has been recorded yet
+     */
+    public LanguageMetrics getMetrics(Language language) {
+        return languages.get(language);
+    }
+
+    /**
+     * Returns the metrics recorded for every language.
+     *
+     * @return the unmodifiable view of metrics mapped by their language
+     */
+    public Map<Language, LanguageMetrics> getMetrics() {
+        return Collections.unmodifiableMap(languages);
+    }
+
+    /**
+     * Discards every recorded metric.
+     */
+    public void reset() {
+        languages.clear();
+    }
+
+    private LanguageMetrics getOrCreate(Language language) {
+        Objects.requireNonNull(language, "Language");
+        LanguageMetrics metrics = languages.get(language);
+        if (metrics != null) return metrics;
+        return languages.computeIfAbsent(language, LanguageMetrics::new);
+    }
+
+    /**
+     * Metrics recorded for a single language.
+     */
+    public final class LanguageMetrics {
+
+        private final Language language;
+
+        private final LatencyHistogram lex = new LatencyHistogram();
+        private final LatencyHistogram parse = new LatencyHistogram();
+        private final LatencyHistogram transform = new LatencyHistogram();
+        private final LatencyHistogram lookup = new LatencyHistogram();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final Map<String, KeyMetrics> keys = new ConcurrentHashMap<>();
+
+        //The amount of keys tracked although they have only been missed
+        private final AtomicInteger missedKeys = new AtomicInteger();
+
+        LanguageMetrics(Language language) {
+            this.language = language;
+        }
+
+        public Language getLanguage() {
+            return language;
+        }
+
+        public LatencyHistogram getLexLatency() {
+            return lex;
+        }
+
+        public LatencyHistogram getParseLatency() {
+            return parse;
+        }
+
+        public LatencyHistogram getTransformLatency() {
+            return transform;
+        }
+
+        public LatencyHistogram getLookupLatency() {
+            return lookup;
+        }
+
+        /**
+         * Returns the amount of lookups of keys not registered.
+         *
+         * @return the amount of missed lookups
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Returns the ratio of missed lookups to every lookup.
+         *
+         * @return the miss rate between {@code 0} and {@code 1}
+         */
+        public double getMissRate() {
+            long lookups = lookup.getCount();
+            return lookups == 0 ? 0 : (double) getMisses() / lookups;
+        }
+
+        /**
+         * Returns the metrics recorded for the given message {@code key}.
+         *
+         * @param key the target message key
+         * @return the metrics of {@code key}, {@code nullable} if nothing
+         * has been recorded yet
+         */
+        public KeyMetrics getMetrics(String key) {
+            return keys.get(key);
+        }
+
+        /**
+         * Returns the metrics recorded for every message key.
+         *
+         * @return the unmodifiable view of metrics mapped by their key
+         */
+        public Map<String, KeyMetrics> getKeys() {
+            return Collections.unmodifiableMap(keys);
+        }
+
+        /**
+         * Returns the metrics of the {@code limit} most transformed message
+         * keys in descending order.
+         *
+         * @param limit the maximum amount of keys
+         * @return the newly allocated list of hottest keys
+         */
+        public List<KeyMetrics> getHottest(int limit) {
+            List<KeyMetrics> hottest = new ArrayList<>(keys.values());
+            hottest.sort(Comparator.comparingLong(KeyMetrics::getTransforms).reversed());
+            return hottest.subList(0, Math.min(Math.max(limit, 0), hottest.size()));
+        }
+
+        private KeyMetrics getOrCreate(String key) {
+            KeyMetrics metrics = keys.get(key);
+            if (metrics != null) return metrics;
+            return keys.computeIfAbsent(key, KeyMetrics::new);
+        }
+
+        private KeyMetrics getOrCreateMissed(String key) {
+            KeyMetrics metrics = keys.get(key);
+            if (metrics != null || missedKeys.get() >= MAX_MISSED_KEYS) return metrics;
+            return keys.computeIfAbsent(key, k -> {
+                missedKeys.incrementAndGet();
+                return new KeyMetrics(k);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return Language.getIdentifier(language) + ": transform(" + transform
+                    + "), missRate=" + getMissRate();
+        }
+    }
+
+    /**
+     * Metrics recorded for a single message key of a language.
+     */
+    public final class KeyMetrics {
+
+        private final String key;
+
+        private final LongAdder transforms = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        private final LatencyHistogram latency;
+
+        KeyMetrics(String key) {
+            this.key = key;
+            this.latency = keyHistograms ? new LatencyHistogram() : null;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getTransforms() {
+            return transforms.sum();
+        }
+
+        /**
+         * Returns the sum of the latencies of every transformation.
+         *
+         * @return the total latency in nanoseconds
+         */
+        public long getTotalLatency() {
+            return total.sum();
+        }
+
+        public long getLookups() {
+            return lookups.sum();
+        }
+
+        /**
+         * Returns the amount of lookups of this key while not registered.
+         * <p>Misses of keys beyond {@link #MAX_MISSED_KEYS} are only
+         * counted by their language.
+         *
+         * @return the amount of missed lookups
+         * @see LanguageMetrics#getMisses()
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Returns the ratio of missed lookups to every lookup.
+         *
+         * @return the miss rate between {@code 0} and {@code 1}
+         */
+        public double getMissRate() {
+            long lookups = getLookups();
+            return lookups == 0 ? 0 : (double) getMisses() / lookups;
+        }
+
+        /**
+         * Returns the latency histogram of the transformations.
+         *
+         * @return the histogram, {@code nullable} if the recorder does not
+         * record histograms per key
+         */
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return key + ": transforms=" + getTransforms() + ", lookups="
+                    + getLookups() + ", misses=" + getMisses();
+        }
+    }
+
+}
@@ -0,0 +1,238 @@
+package io.github.sauranbone.plang.core.parsing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Growable byte sink, that messages are rendered into as encoded bytes
+ * without building an intermediate string.
+ * <p>A sink is backed by a heap byte buffer, that is reallocated with a
+ * larger capacity whenever the remaining capacity does not suffice.  A
+ * sink can be {@link #clear() cleared} and reused for multiple messages,
+ * in order to not allocate again.
+ * <p>This sink is not thread-safe.
+ *
+ * @author agent
+ * @version 16:10 CEST, 17.10.2026
+ * @see io.github.sauranbone.plang.core.parsing.impl.Utf8Transformer
+ * @since 1.0
+ */
+public final class ByteSink {
+
+    private ByteBuffer buffer;
+
+    /**
+     * Allocates a new byte sink having an initial capacity of 64 bytes.
+     */
+    public ByteSink() {
+        this(64);
+    }
+
+    /**
+     * Allocates a new byte sink having the given {@code initialCapacity}.
+     *
+     * @param initialCapacity the initial capacity in bytes
+     */
+    public ByteSink(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(initialCapacity, 16));
+    }
+
+    /**
+     * Ensures that at least {@code length} bytes can be put into this
+     * sink without growing it.
+     *
+     * @param length the amount of bytes to be put
+     * @return this instance so method chains are able to exist
+     */
+    public ByteSink ensureRemaining(int length) {
+        if (buffer.remaining() >= length) return this;
+        //Grow by half of the current capacity or the required length
+        int capacity = buffer.capacity();
+        int required = buffer.position() + length;
+        if (required < 0) throw new OutOfMemoryError("Required capacity too large");
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(required, capacity + (capacity >> 1)));
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+        return this;
+    }
+
+    /**
+     * Puts all the given {@code bytes} into this sink.
+     *
+     * @param bytes the bytes to be put
+     * @return this instance so method chains are able to exist
+     * @throws NullPointerException if {@code bytes} is null
+     */
+    public ByteSink put(byte[] bytes) {
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    /**
+     * Encodes the given {@code sequence} to UTF-8 and puts the encoded
+     * bytes into this sink.
+     *
+     * @param sequence the sequence to be encoded
+     * @return this instance so method chains are able to exist
+     * @throws NullPointerException if {@code sequence} is null
+     * @see #encodeUtf8(CharSequence, ByteBuffer)
+     */
+    public ByteSink putUtf8(CharSequence sequence) {
+        //A single char never encodes to more than three bytes
+        ensureRemaining(3 * sequence.length());
+        encodeUtf8(sequence, buffer);
+        return this;
+    }
+
+    /**
+     * Puts the decimal representation of the given {@code value} into
+     * this sink, without converting it into a string.
+     *
+     * @param value the value to be put
+     * @return the amount of chars the decimal representation consists of
+     * @see #encodeDecimal(long, ByteBuffer)
+     */
+    public int putDecimal(long value) {
+        //The longest representation is the one of MIN_VALUE
+        ensureRemaining(20);
+        return encodeDecimal(value, buffer);
+    }
+
+    /**
+     * Encodes the given {@code sequence} to UTF-8 and puts the encoded
+     * bytes into the given {@code out} buffer, without allocating any
+     * intermediate array.
+     * <p>Malformed surrogate characters are encoded as question mark,
+     * equal to {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @param sequence the sequence to be encoded
+     * @param out      the target buffer to put the bytes into
+     * @throws NullPointerException             if any argument is null
+     * @throws java.nio.BufferOverflowException if {@code out} has not
+     *                                          enough remaining space
+     */
+    public static void encodeUtf8(CharSequence sequence, ByteBuffer out) {
+        final int n = sequence.length();
+        for (int i = 0; i < n; i++) {
+            char ch = sequence.charAt(i);
+            if (ch < 0x80) {
+                out.put((byte) ch);
+            } else if (ch < 0x800) {
+                out.put((byte) (0xC0 | (ch >> 6)));
+                out.put((byte) (0x80 | (ch & 0x3F)));
+            } else if (Character.isSurrogate(ch)) {
+                char low;
+                if (Character.isHighSurrogate(ch) && i + 1 < n
+                        && Character.isLowSurrogate(low = sequence.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(ch, low);
+                    out.put((byte) (0xF0 | (cp >> 18)));
+                    out.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    out.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    out.put((byte) (0x80 | (cp & 0x3F)));
+                    ++i;
+                } else out.put((byte) '?');
+            } else {
+                out.put((byte) (0xE0 | (ch >> 12)));
+                out.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (ch & 0x3F)));
+            }
+        }
+    }
+
+    /**
+     * Puts the decimal representation of the given {@code value} as
+     * ASCII bytes into the given {@code out} buffer, equal to the bytes of
+     * {@link Long#toString(long)}, without allocating any string.
+     *
+     * @param value the value to be encoded
+     * @param out   the target buffer to put the bytes into
+     * @return the amount of chars the decimal representation consists of
+     * @throws NullPointerException             if {@code out} is null
+     * @throws java.nio.BufferOverflowException if {@code out} has not
+     *                                          enough remaining space
+     */
+    public static int encodeDecimal(long value, ByteBuffer out) {
+        if (value == Long.MIN_VALUE) {
+            encodeUtf8(Long.toString(value), out);
+            return 20;
+        }
+        int length = 1;
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+            ++length;
+        }
+        long divisor = 1;
+        for (; divisor <= value / 10; divisor *= 10) ++length;
+        for (; divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+        return length;
+    }
+
+    /**
+     * Returns the amount of bytes put into this sink.
+     *
+     * @return the size of this sink in bytes
+     */
+    public int size() {
+        return buffer.position();
+    }
+
+    /**
+     * Returns the current capacity of this sink.
+     *
+     * @return the capacity in bytes
+     */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Removes all bytes from this sink, while keeping its capacity.
+     */
+    public void clear() {
+        buffer.clear();
+    }
+
+    /**
+     * Returns a read-only buffer view of the bytes of this sink, that is
+     * ready to be written to a channel.
+     * <p>The view shares the content with this sink, thus it is only
+     * valid until this sink is mutated the next time.
+     *
+     * @return the read-only view of the bytes of this sink
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteBuffer view = buffer.duplicate();
+        view.flip();
+        return view.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a newly allocated array of the bytes of this sink.
+     *
+     * @return the bytes of this sink
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * Writes the bytes of this sink to the given {@code out}.
+     *
+     * @param out the target stream to write to
+     * @throws IOException          if {@code out} throws an I/O error
+     * @throws NullPointerException if {@code out} is null
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        Objects.requireNonNull(out, "Out");
+        out.write(buffer.array(), 0, buffer.position());
+    }
+
+}
@@ -0,0 +1,273 @@
+package io.github.sauranbone.plang.core.parsing;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable and compact token list implementation, that stores tokens as
+ * offsets into their owning content rather than as separate strings.
+ * <p>Every token only consists of its start and end offset within the
+ * content, a type byte and an optional slot containing the resolved
+ * placeholder name, if the token is a placeholder.  Thus, the raw content
+ * of a token is never copied unless explicitly requested.
+ * <p>Tokens that are accessed using {@link #get(int)} are allocated on
+ * demand and represent a detached copy of the stored token, meaning that
+ * mutations of such token, like {@link MessageToken#setType}, do not
+ * affect this list.  Processors should prefer the index based accessors,
+ * like {@link #getType(int)} or {@link #appendRaw(int, StringBuilder)}, to
+ * avoid these allocations.
+ *
+ * @author agent
+ * @version 15:56 CEST, 17.10.2026
+ * @see ParsedTokens
+ * @since 1.0
+ */
+public final class CompactTokens extends AbstractList<MessageToken> implements RandomAccess {
+
+    private static final MessageTokenType[] TYPES = MessageTokenType.values();
+
+    private final String content;
+
+    //Start and end offset of every token, two entries per token
+    private final int[] bounds;
+
+    //The ordinal of the type of every token
+    private final byte[] types;
+
+    //The placeholder name of every token, null for literals
+    private final String[] values;
+
+    private final int size;
+
+    private CompactTokens(String content, int[] bounds, byte[] types, String[] values, int size) {
+        this.content = content;
+        this.bounds = bounds;
+        this.types = types;
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Returns the content all tokens of this list are pointing into.
+     *
+     * @return the owning content of this list, {@code not null}
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Returns the type of the token at {@code index}.
+     *
+     * @param index the target token index
+     * @return the type of the token
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public MessageTokenType getType(int index) {
+        return TYPES[types[checkIndex(index)]];
+    }
+
+    /**
+     * Returns true if the token at {@code index} is a placeholder.
+     *
+     * @param index the target token index
+     * @return false if the token is not a placeholder
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see MessageToken#isPlaceholder()
+     */
+    public boolean isPlaceholder(int index) {
+        return values[checkIndex(index)] != null
+                && types[index] == MessageTokenType.PLACEHOLDER.ordinal();
+    }
+
+    /**
+     * Returns the offset within the content at which the raw content of
+     * the token at {@code index} begins (inclusive).
+     *
+     * @param index the target token index
+     * @return the start offset of the token
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int getBegin(int index) {
+        return bounds[checkIndex(index) << 1];
+    }
+
+    /**
+     * Returns the offset within the content at which the raw content of
+     * the token at {@code index} ends (exclusive).
+     *
+     * @param index the target token index
+     * @return the end offset of the token
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int getEnd(int index) {
+        return bounds[(checkIndex(index) << 1) + 1];
+    }
+
+    /**
+     * Returns the value of the token at {@code index}, which is the
+     * resolved placeholder name if the token is a placeholder.
+     *
+     * @param index the target token index
+     * @return the value of the token, {@code nullable}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see MessageToken#getValue()
+     */
+    public String getValue(int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * Returns a newly allocated string of the raw content of the token at
+     * {@code index}.
+     *
+     * @param index the target token index
+     * @return the raw content of the token
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @see #appendRaw(int, StringBuilder)
+     */
+    public String getRaw(int index) {
+        return content.substring(getBegin(index), getEnd(index));
+    }
+
+    /**
+     * Appends the raw content of the token at {@code index} to the given
+     * {@code builder} without allocating an intermediate string.
+     *
+     * @param index   the target token index
+     * @param builder the target builder to append to
+     * @return the given {@code builder}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws NullPointerException      if {@code builder} is null
+     */
+    public StringBuilder appendRaw(int index, StringBuilder builder) {
+        return builder.append(content, getBegin(index), getEnd(index));
+    }
+
+    /**
+     * Returns a detached token copy of the token at {@code index}.
+     *
+     * @param index the target token index
+     * @return the newly allocated token
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    @Override
+    public MessageToken get(int index) {
+        return new MessageToken(getRaw(index), values[index], TYPES[types[index]]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        return index;
+    }
+
+    /**
+     * Builder allowing a lexer to append tokens as offsets into a single
+     * content before the compact list is created.
+     * <p>This builder is not thread-safe and is intended to be used
+     * within a single tokenization only.
+     */
+    public static class Builder {
+
+        private final String content;
+        private int[] bounds;
+        private byte[] types;
+        private String[] values;
+        private int size;
+
+        /**
+         * Allocates a new compact token list builder.
+         *
+         * @param content the content all tokens are pointing into
+         * @throws NullPointerException if {@code content} is null
+         */
+        public Builder(String content) {
+            this(content, 4);
+        }
+
+        /**
+         * Allocates a new compact token list builder.
+         *
+         * @param content         the content all tokens are pointing into
+         * @param initialCapacity the initial capacity of tokens
+         * @throws NullPointerException if {@code content} is null
+         */
+        public Builder(String content, int initialCapacity) {
+            Objects.requireNonNull(content, "Content");
+            this.content = content;
+            initialCapacity = Math.max(initialCapacity, 1);
+            this.bounds = new int[initialCapacity << 1];
+            this.types = new byte[initialCapacity];
+            this.values = new String[initialCapacity];
+        }
+
+        /**
+         * Adds a literal token ranging from {@code begin} (inclusive) to
+         * {@code end} (exclusive) within the content.
+         *
+         * @param begin the start offset of the literal
+         * @param end   the end offset of the literal
+         * @return this instance so method chains are able to exist
+         * @throws IndexOutOfBoundsException if the range is illegal
+         */
+        public Builder addLiteral(int begin, int end) {
+            return add(begin, end, null, MessageTokenType.LITERAL);
+        }
+
+        /**
+         * Adds a placeholder token ranging from {@code begin} (inclusive)
+         * to {@code end} (exclusive) within the content, including its
+         * syntax, that is pointing to the given placeholder {@code name}.
+         *
+         * @param begin the start offset of the placeholder
+         * @param end   the end offset of the placeholder
+         * @param name  the placeholder name, {@code not null}
+         * @return this instance so method chains are able to exist
+         * @throws IndexOutOfBoundsException if the range is illegal
+         * @throws NullPointerException      if {@code name} is null
+         */
+        public Builder addPlaceholder(int begin, int end, String name) {
+            Objects.requireNonNull(name, "Token value must not be null on syntax type");
+            return add(begin, end, name, MessageTokenType.PLACEHOLDER);
+        }
+
+        /**
+         * Builds the current tokens and returns the new immutable compact
+         * token list instance, whose arrays are trimmed to their size.
+         *
+         * @return the newly allocated compact token list
+         */
+        public CompactTokens build() {
+            return new CompactTokens(content,
+                    Arrays.copyOf(bounds, size << 1),
+                    Arrays.copyOf(types, size),
+                    Arrays.copyOf(values, size), size);
+        }
+
+        private Builder add(int begin, int end, String value, MessageTokenType type) {
+            if (begin < 0 || end > content.length() || begin > end)
+                throw new IndexOutOfBoundsException(begin + ", " + end);
+            if (size == types.length) {
+                //Grow every array by half of its capacity
+                int capacity = size + (size >> 1) + 1;
+                bounds = Arrays.copyOf(bounds, capacity << 1);
+                types = Arrays.copyOf(types, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            bounds[size << 1] = begin;
+            bounds[(size << 1) + 1] = end;
+            types[size] = (byte) type.ordinal();
+            values[size++] = value;
+            return this;
+        }
+    }
+
+}
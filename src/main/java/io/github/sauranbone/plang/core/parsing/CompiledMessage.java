@@ -0,0 +1,469 @@
+package io.github.sauranbone.plang.core.parsing;
+
+import io.github.sauranbone.plang.core.PlangUtils;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compiled and immutable form of parsed message tokens, whose placeholders
+ * have been resolved ahead of time, so that rendering a message becomes a
+ * straight loop over prepared slots.
+ * <p>A compiled message consists of literal segments and slots in
+ * alternating order, beginning and ending with a literal segment, which
+ * may be empty:
+ * <pre><code>
+ *     literal(0) slot(0) literal(1) slot(1) ... literal(n)
+ * </code></pre>
+ * <p>Every slot contains the positional index of its placeholder, the
+ * placeholder name and its lowercase key, the placeholder of the
+ * language's lexicon that is bound to that name, if any, its modifiers
+ * and the type that placeholder is accepting as well as its top
+ * superclass.  Rendering a slot thus never reads the placeholder's
+ * modifiers, which may be updated concurrently.
+ * <p>If the tokens are {@link ParsedTokens#isFolding() folding}, every
+ * static and nullable placeholder is folded into its adjacent literals
+ * and does not occupy a slot, whereas the remaining slots keep the
+ * positional index of their placeholder within all placeholders.
+ * <p>Every slot also keeps a running estimate of the length of the values
+ * rendered into it, so that {@link #getEstimatedLength()} allows the
+ * output of a message to be sized correctly on its first allocation.
+ * <p>The lexicon resolution is only valid as long as the lexicon and the
+ * modifiers of its placeholders are not mutated, which is why a compiled
+ * message stores the lexicon's revision and is recompiled by
+ * {@link #of(ParsedTokens, Language)} whenever that revision changes.
+ *
+ * @author agent
+ * @version 15:59 CEST, 17.10.2026
+ * @see ParsedTokens
+ * @see Lexicon#getRevision()
+ * @since 1.0
+ */
+public final class CompiledMessage {
+
+    private final Language language;
+
+    //The key of the message, if known
+    private final String key;
+
+    //The lexicon revision the slots have been resolved at
+    private final int revision;
+
+    private final String[] literals;
+
+    private final Slot[] slots;
+
+    private final int literalLength;
+
+    //Values derived from this message as pairs of owner and value
+    private volatile Object[] derived = new Object[0];
+
+    private CompiledMessage(Language language, String key, int revision, String[] literals, Slot[] slots, int literalLength) {
+        this.language = language;
+        this.key = key;
+        this.revision = revision;
+        this.literals = literals;
+        this.slots = slots;
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Returns the compiled message of the given {@code tokens} in context
+     * of the given {@code language}.
+     * <p>The compiled message is cached within {@code tokens} and only
+     * recompiled if it is no longer {@link #isValid(Language) valid}.
+     *
+     * @param tokens   the target parsed tokens
+     * @param language the target language the tokens are rendered in
+     * @return the valid compiled message of {@code tokens}
+     * @throws NullPointerException if any argument is null
+     * @see #compile(ParsedTokens, Language)
+     */
+    public static CompiledMessage of(ParsedTokens tokens, Language language) {
+        Objects.requireNonNull(tokens, "Tokens");
+        CompiledMessage compiled = tokens.compiled;
+        if (compiled == null || !compiled.isValid(language)) {
+            //Compile and publish, concurrent compilations are equal
+            tokens.compiled = compiled = compile(tokens, language);
+        }
+        return compiled;
+    }
+
+    /**
+     * Compiles the given {@code tokens} in context of the given
+     * {@code language} and its lexicon.
+     *
+     * @param tokens   the target parsed tokens
+     * @param language the target language the tokens are rendered in
+     * @return the newly allocated compiled message
+     * @throws NullPointerException if any argument or the lexicon of
+     *                              {@code language} is null
+     */
+    @SuppressWarnings("unchecked")
+    public static CompiledMessage compile(ParsedTokens tokens, Language language) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Lexicon lexicon = Objects.requireNonNull(language.getLexicon(), "Lexicon");
+        //Read the revision first, so any later mutation invalidates us
+        final int revision = lexicon.getRevision();
+        final int n = tokens.size();
+        final boolean folding = tokens.isFolding();
+        List<String> literals = new ArrayList<>();
+        List<Slot> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = tokens.getLiteralLength();
+        for (int i = 0, p = 0; i < n; i++) {
+            if (!tokens.isPlaceholder(i)) {
+                tokens.appendRaw(i, literal);
+                continue;
+            }
+            String name = tokens.getValue(i);
+            Placeholder<Object> placeholder = (Placeholder<Object>) lexicon.get(name);
+            if (folding && placeholder != null && isConstant(placeholder)) {
+                //Fold the constant value into the current literal
+                int length = literal.length();
+                literal.append(placeholder.transform(null));
+                literalLength += literal.length() - length;
+                ++p;
+                continue;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            String raw = tokens.appendRaw(i, new StringBuilder()).toString();
+            slots.add(new Slot(p, name, raw, placeholder));
+            ++p;
+        }
+        literals.add(literal.length() == 0 ? StringUtils.EMPTY : literal.toString());
+        return new CompiledMessage(language, tokens.getKey(), revision, literals.toArray(new String[0]),
+                slots.toArray(new Slot[0]), literalLength);
+    }
+
+    private static boolean isConstant(Placeholder<?> placeholder) {
+        return placeholder.isStatic() && placeholder.isNullable();
+    }
+
+    /**
+     * Returns true if this compiled message has been compiled in context
+     * of the given {@code language} and its lexicon has not been mutated
+     * since then.
+     *
+     * @param language the target language to check against
+     * @return false if this compiled message must be recompiled
+     */
+    public boolean isValid(Language language) {
+        if (language != this.language) return false;
+        Lexicon lexicon = language.getLexicon();
+        return lexicon != null && lexicon.getRevision() == revision;
+    }
+
+    /**
+     * Returns the language this message has been compiled in.
+     *
+     * @return the target language, {@code not null}
+     */
+    public Language getLanguage() {
+        return language;
+    }
+
+    /**
+     * Returns the key of the message this message has been compiled for.
+     *
+     * @return the message key, {@code nullable} if unknown
+     * @see ParsedTokens#getKey()
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the amount of slots, and thus placeholders, contained.
+     *
+     * @return the amount of slots
+     */
+    public int getSlotCount() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the slot at given {@code index}.
+     *
+     * @param index the target slot index
+     * @return the slot at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Slot getSlot(int index) {
+        return slots[index];
+    }
+
+    /**
+     * Returns the literal segment at given {@code index}, that is located
+     * before the slot having the same index.
+     * <p>There is always exactly one more literal segment than slots.
+     *
+     * @param index the target literal index
+     * @return the literal at {@code index}, {@code not null}
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public String getLiteral(int index) {
+        return literals[index];
+    }
+
+    /**
+     * Returns the total length of all literal segments.
+     *
+     * @return the length of all literals combined
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * Returns the estimated length of this message once rendered, which
+     * is the length of all literals plus the running length estimate of
+     * every slot.
+     *
+     * @return the estimated rendered length
+     * @see Slot#getLengthEstimate()
+     */
+    public int getEstimatedLength() {
+        long length = literalLength;
+        for (Slot slot : slots) length += slot.lengthEstimate;
+        return (int) Math.min(length, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the value derived from this compiled message by the given
+     * {@code owner}, computing it using the given {@code factory} if the
+     * owner has not derived any value yet.
+     * <p>Derived values share the lifetime of this compiled message, thus
+     * they are discarded whenever the message is recompiled.  This allows
+     * processors to attach their own prepared form of this message, such
+     * as a specialized renderer, without having to validate it again.
+     * <p>The factory may be called concurrently for the same owner, but
+     * only the first published value is ever returned.
+     *
+     * @param owner   the owner of the derived value, compared by identity
+     * @param factory the factory computing the value on first access
+     * @param <T>     the type of the derived value
+     * @return the derived value of {@code owner}, {@code not null}
+     * @throws NullPointerException if any argument or the computed value
+     *                              is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T derive(Object owner, Function<? super CompiledMessage, ? extends T> factory) {
+        Objects.requireNonNull(owner, "Owner");
+        Objects.requireNonNull(factory, "Factory");
+        Object value = findDerived(derived, owner);
+        if (value != null) return (T) value;
+        value = Objects.requireNonNull(factory.apply(this), "Derived value");
+        synchronized (this) {
+            Object[] pairs = derived;
+            Object present = findDerived(pairs, owner);
+            if (present != null) return (T) present;
+            pairs = Arrays.copyOf(pairs, pairs.length + 2);
+            pairs[pairs.length - 2] = owner;
+            pairs[pairs.length - 1] = value;
+            derived = pairs;
+        }
+        return (T) value;
+    }
+
+    private static Object findDerived(Object[] pairs, Object owner) {
+        for (int i = 0; i < pairs.length; i += 2) {
+            if (pairs[i] == owner) return pairs[i + 1];
+        }
+        return null;
+    }
+
+    /**
+     * Prepared placeholder slot of a compiled message.
+     */
+    public static final class Slot {
+
+        //The initial length estimate of a single rendered value
+        static final int INITIAL_LENGTH_ESTIMATE = 16;
+
+        final int index;
+        final Integer indexKey;
+        final String name, key, raw;
+        final Placeholder<Object> placeholder;
+        final Class<?> acceptingType, type;
+
+        //Modifiers of the placeholder at the time of compilation
+        final boolean transformative, constant;
+
+        //Racy but atomic int, as a lost update only loses accuracy
+        int lengthEstimate = INITIAL_LENGTH_ESTIMATE;
+
+        Slot(int index, String name, String raw, Placeholder<Object> placeholder) {
+            this.index = index;
+            this.indexKey = index;
+            this.name = name;
+            this.key = name.toLowerCase(Locale.ROOT);
+            this.raw = raw;
+            this.placeholder = placeholder;
+            this.acceptingType = placeholder == null ? null : placeholder.getAcceptingType();
+            this.type = PlangUtils.getTopSuperclass(acceptingType);
+            this.transformative = placeholder != null && placeholder.isTransformative();
+            this.constant = placeholder != null && CompiledMessage.isConstant(placeholder);
+        }
+
+        /**
+         * Returns the positional index of this slot within its message.
+         *
+         * @return the positional index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the boxed positional index of this slot, that is used
+         * as computed key in lookups.
+         *
+         * @return the boxed positional index, {@code not null}
+         * @see io.github.sauranbone.plang.core.map.DataBinder#lookup(Object)
+         */
+        public Integer getIndexKey() {
+            return indexKey;
+        }
+
+        /**
+         * Returns the computed name key of this slot in context of the
+         * given {@code caseSensitive} configuration of a binder.
+         *
+         * @param caseSensitive true if the binder is case-sensitive
+         * @return the name if {@code caseSensitive}, otherwise the
+         * lowercase name
+         * @see io.github.sauranbone.plang.core.map.DataBinder#lookup(Object)
+         */
+        public String getKey(boolean caseSensitive) {
+            return caseSensitive ? name : key;
+        }
+
+        /**
+         * Returns the placeholder name this slot is pointing to.
+         *
+         * @return the placeholder name, {@code not null}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the lowercase placeholder name, that is used as key in
+         * case-insensitive lookups.
+         *
+         * @return the lowercase placeholder name, {@code not null}
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the raw content of this slot, including its syntax.
+         *
+         * @return the raw content of the placeholder token
+         */
+        public String getRaw() {
+            return raw;
+        }
+
+        /**
+         * Returns the lexicon placeholder bound to this name at the time
+         * of compilation.
+         *
+         * @return the resolved placeholder, {@code nullable}
+         */
+        public Placeholder<Object> getPlaceholder() {
+            return placeholder;
+        }
+
+        /**
+         * Returns true if the resolved placeholder has been transformative
+         * at the time of compilation, meaning that it transforms the value
+         * bound to its accepting type.
+         *
+         * @return false if there is no transformative placeholder
+         * @see Placeholder#isTransformative()
+         */
+        public boolean isTransformative() {
+            return transformative;
+        }
+
+        /**
+         * Returns true if the resolved placeholder has been static and
+         * nullable at the time of compilation, meaning that it transforms
+         * a null value into its constant.
+         *
+         * @return false if there is no constant placeholder
+         * @see Placeholder#isStatic()
+         * @see Placeholder#isNullable()
+         */
+        public boolean isConstant() {
+            return constant;
+        }
+
+        /**
+         * Returns the type the resolved placeholder is accepting.
+         *
+         * @return the accepting type, {@code nullable}
+         * @see Placeholder#getAcceptingType()
+         */
+        public Class<?> getAcceptingType() {
+            return acceptingType;
+        }
+
+        /**
+         * Returns the top superclass of the type the resolved placeholder
+         * is accepting.
+         *
+         * @return the accepting type, {@code nullable}
+         * @see PlangUtils#getTopSuperclass(Class)
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * Returns the running estimate of the length of the values that
+         * are rendered into this slot.
+         *
+         * @return the estimated value length
+         * @see #recordLength(int)
+         */
+        public int getLengthEstimate() {
+            return lengthEstimate;
+        }
+
+        /**
+         * Records the {@code length} of a value that has been rendered into
+         * this slot, updating its running length estimate.
+         * <p>The estimate immediately grows to any longer value but only
+         * slowly decays towards shorter values, as a too large output is
+         * cheaper than growing it.  The estimate is only written if it
+         * changes, so that messages rendered concurrently with stable
+         * value lengths do not contend on it.
+         *
+         * @param length the length of the rendered value
+         */
+        public void recordLength(int length) {
+            final int estimate = lengthEstimate;
+            if (length > estimate) {
+                lengthEstimate = length;
+            } else if (estimate - length >= 8) {
+                //Decay by an eighth of the difference
+                lengthEstimate = estimate - ((estimate - length) >> 3);
+            }
+        }
+    }
+
+}
@@ -3,6 +3,9 @@ package io.github.sauranbone.plang.core.parsing;
 import io.github.sauranbone.plang.core.map.DataBinder;
 import io.github.sauranbone.plang.core.specific.Language;
 
+import java.io.IOException;
+import java.util.Objects;
+
 /**
  * Interface acting like a message parser taking parsed tokens and using
  * semantic analysis to transform them into literal content.
@@ -34,4 +37,51 @@ public interface MessageTransformer {
      */
     String transform(ParsedTokens tokens, Language language, String message, DataBinder data);
 
+    /**
+     * Transforms the given {@code tokens} like
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}, but
+     * appends the result to the given {@code builder} instead of
+     * returning a new string.
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param builder  the target builder to append to
+     * @return the given {@code builder}
+     * @throws NullPointerException if any argument is null
+     * @implSpec The default implementation appends the string returned by
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}.
+     * Implementations should override this method to append directly.
+     */
+    default StringBuilder transform(ParsedTokens tokens, Language language, String message, DataBinder data, StringBuilder builder) {
+        Objects.requireNonNull(builder, "Builder");
+        return builder.append(transform(tokens, language, message, data));
+    }
+
+    /**
+     * Transforms the given {@code tokens} like
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}, but
+     * appends the result to the given {@code out}, such as a
+     * {@link java.io.Writer}, instead of returning a new string.
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param out      the target to append to
+     * @param <A>      the type of {@code out}
+     * @return the given {@code out}
+     * @throws NullPointerException if any argument is null
+     * @throws IOException          if {@code out} throws an I/O error
+     * @implSpec The default implementation appends the string returned by
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}.
+     * Implementations should override this method to append directly.
+     */
+    default <A extends Appendable> A transform(ParsedTokens tokens, Language language, String message, DataBinder data, A out) throws IOException {
+        Objects.requireNonNull(out, "Out");
+        out.append(transform(tokens, language, message, data));
+        return out;
+    }
+
 }
@@ -10,6 +10,10 @@ import java.util.Objects;
 /**
  * Thread-safe list composition implementation that allows to read and
  * cache and already validated message tokens.
+ * <p>If the tokens are {@link CompactTokens}, they are kept as is and the
+ * index based accessors, like {@link #isPlaceholder(int)} or
+ * {@link #appendRaw(int, StringBuilder)}, directly read their offsets
+ * without allocating any token.
  *
  * @author Vinzent Zeband
  * @version 23:37 CET, 12.02.2022
@@ -20,6 +24,21 @@ public class ParsedTokens implements Iterable<MessageToken> {
 
     private final List<MessageToken> tokens;
 
+    //The compact tokens if this list is backed by compact tokens
+    private final CompactTokens compact;
+
+    //The total raw length of all non-placeholder tokens
+    private final int literalLength;
+
+    //True if static placeholders may be folded into literals
+    private final boolean folding;
+
+    //The key of the message these tokens have been parsed for, if known
+    private final String key;
+
+    //Cached compiled form of these tokens
+    volatile CompiledMessage compiled;
+
     /**
      * Allocates an empty parsed token list that cannot contain any
      * content.
@@ -32,17 +51,56 @@ public class ParsedTokens implements Iterable<MessageToken> {
      * Allocates a new parsed token list instance having the given {@code
      * values} as initial values, meaning that any mutations in the given
      * {@code values} list have no affect on this instance.
+     * <p>If {@code values} are {@link CompactTokens}, they are not copied
+     * but used as the immutable backing list of this instance.
      *
      * @param values the target initial values
      * @throws NullPointerException if {@code values} is null
      */
     public ParsedTokens(List<MessageToken> values) {
-        this.tokens = new ArrayList<>(values);
+        Objects.requireNonNull(values);
+        if (values instanceof CompactTokens) {
+            this.compact = (CompactTokens) values;
+            this.tokens = compact;
+        } else {
+            this.compact = null;
+            this.tokens = new ArrayList<>(values);
+        }
+        this.literalLength = computeLiteralLength();
+        this.folding = false;
+        this.key = null;
     }
 
     private ParsedTokens(ArrayList<MessageToken> reference) {
         Objects.requireNonNull(reference);
         this.tokens = reference;
+        this.compact = null;
+        this.literalLength = computeLiteralLength();
+        this.folding = false;
+        this.key = null;
+    }
+
+    private ParsedTokens(ParsedTokens other, boolean folding, String key) {
+        this.tokens = other.tokens;
+        this.compact = other.compact;
+        this.literalLength = other.literalLength;
+        this.folding = folding;
+        this.key = key;
+    }
+
+    private int computeLiteralLength() {
+        int length = 0;
+        for (int n = tokens.size(), i = 0; i < n; i++) {
+            if (compact != null) {
+                if (!compact.isPlaceholder(i))
+                    length += compact.getEnd(i) - compact.getBegin(i);
+                continue;
+            }
+            MessageToken token = tokens.get(i);
+            if (token != null && !token.isPlaceholder())
+                length += token.getRaw().length();
+        }
+        return length;
     }
 
     /**
@@ -53,7 +111,13 @@ public class ParsedTokens implements Iterable<MessageToken> {
      * @return the string out of {@code tokens}
      */
     public static String tokensToString(ParsedTokens tokens) {
-        return tokensToString(tokens == null ? null : tokens.tokens);
+        if (tokens == null || tokens.compact == null)
+            return tokensToString(tokens == null ? null : tokens.tokens);
+        StringBuilder builder = new StringBuilder();
+        for (int n = tokens.size(), i = 0; i < n; i++) {
+            tokens.appendRaw(i, builder);
+        }
+        return builder.toString();
     }
 
     /**
@@ -88,6 +152,138 @@ public class ParsedTokens implements Iterable<MessageToken> {
         return tokens.get(index);
     }
 
+    /**
+     * Returns the type of the token at given {@code index}.
+     *
+     * @param index the target index to be received
+     * @return the type of the token at {@code index}
+     * @throws IndexOutOfBoundsException if {@code index} is negative or
+     *                                   above this size (inclusive)
+     * @see MessageToken#getType()
+     */
+    public MessageTokenType getType(int index) {
+        if (compact != null) return compact.getType(index);
+        return get(index).getType();
+    }
+
+    /**
+     * Returns true if the token at given {@code index} is a placeholder
+     * having a valid value.
+     *
+     * @param index the target index to be received
+     * @return false if the token at {@code index} is not a placeholder
+     * @throws IndexOutOfBoundsException if {@code index} is negative or
+     *                                   above this size (inclusive)
+     * @see MessageToken#isPlaceholder()
+     */
+    public boolean isPlaceholder(int index) {
+        if (compact != null) return compact.isPlaceholder(index);
+        return get(index).isPlaceholder();
+    }
+
+    /**
+     * Returns the value of the token at given {@code index}.
+     *
+     * @param index the target index to be received
+     * @return the value of the token at {@code index}, {@code nullable}
+     * @throws IndexOutOfBoundsException if {@code index} is negative or
+     *                                   above this size (inclusive)
+     * @see MessageToken#getValue()
+     */
+    public String getValue(int index) {
+        if (compact != null) return compact.getValue(index);
+        return get(index).getValue();
+    }
+
+    /**
+     * Appends the raw content of the token at given {@code index} to the
+     * given {@code builder}.
+     *
+     * @param index   the target index to be received
+     * @param builder the target builder to append to
+     * @return the given {@code builder}
+     * @throws IndexOutOfBoundsException if {@code index} is negative or
+     *                                   above this size (inclusive)
+     * @throws NullPointerException      if {@code builder} is null
+     * @see MessageToken#getRaw()
+     */
+    public StringBuilder appendRaw(int index, StringBuilder builder) {
+        if (compact != null) return compact.appendRaw(index, builder);
+        return builder.append(get(index).getRaw());
+    }
+
+    /**
+     * Returns the total raw length of all tokens that are not a
+     * placeholder, which is computed once when this list is created.
+     * <p>This is the minimum length of any message transformed out of
+     * these tokens and used to presize its output.
+     *
+     * @return the length of all literal tokens combined
+     */
+    public int getLiteralLength() {
+        return literalLength;
+    }
+
+    /**
+     * Returns true if static placeholders within these tokens may be
+     * folded into their adjacent literals once compiled.
+     *
+     * @return true if static placeholders are folded
+     * @see #toFolding()
+     * @see CompiledMessage#compile(ParsedTokens,
+     * io.github.sauranbone.plang.core.specific.Language)
+     */
+    public boolean isFolding() {
+        return folding;
+    }
+
+    /**
+     * Returns parsed tokens sharing the tokens of this instance, whose
+     * static placeholders are folded into their adjacent literals once
+     * compiled.
+     *
+     * @return this instance if it is already folding, otherwise a new
+     * instance sharing the tokens of this instance
+     * @see io.github.sauranbone.plang.core.parsing.impl.FoldingParser
+     */
+    public ParsedTokens toFolding() {
+        return folding ? this : new ParsedTokens(this, true, key);
+    }
+
+    /**
+     * Returns the key of the message these tokens have been parsed for,
+     * which is carried into errors concerning the message.
+     *
+     * @return the message key, {@code nullable} if unknown
+     * @see #withKey(String)
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns tokens equal to these tokens, that have been parsed for the
+     * message registered at the given {@code key}.
+     *
+     * @param key the key of the message, {@code nullable}
+     * @return either this instance if its key is equal to {@code key} or a
+     * new instance sharing the tokens of this instance
+     * @see io.github.sauranbone.plang.core.specific.Message#getKey()
+     */
+    public ParsedTokens withKey(String key) {
+        return Objects.equals(this.key, key) ? this : new ParsedTokens(this, folding, key);
+    }
+
+    /**
+     * Returns true if this list is backed by compact tokens.
+     *
+     * @return false if this list contains allocated token instances
+     * @see CompactTokens
+     */
+    public boolean isCompact() {
+        return compact != null;
+    }
+
     /**
      * Returns true if no token has been concurrently added yet.
      *
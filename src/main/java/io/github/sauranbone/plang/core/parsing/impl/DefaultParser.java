@@ -3,6 +3,7 @@ package io.github.sauranbone.plang.core.parsing.impl;
 import io.github.sauranbone.plang.core.error.LanguageErrorHandler;
 import io.github.sauranbone.plang.core.error.ParseError;
 import io.github.sauranbone.plang.core.error.ParseErrorType;
+import io.github.sauranbone.plang.core.parsing.CompactTokens;
 import io.github.sauranbone.plang.core.parsing.MessageParser;
 import io.github.sauranbone.plang.core.parsing.MessageToken;
 import io.github.sauranbone.plang.core.parsing.ParsedTokens;
@@ -46,6 +47,15 @@ public class DefaultParser implements MessageParser {
         Lexicon lexicon = language.getLexicon();
         Objects.requireNonNull(lexicon, "Lexicon");
         if (tokens == null || tokens.isEmpty()) return new ParsedTokens();
+        if (tokens instanceof CompactTokens) {
+            //Validate compact tokens in place, they are immutable
+            CompactTokens compact = (CompactTokens) tokens;
+            for (int n = compact.size(), i = 0; i < n; i++) {
+                if (compact.isPlaceholder(i))
+                    validate(language, lexicon, compact.getValue(i));
+            }
+            return new ParsedTokens(compact);
+        }
         //Create buffer and start validating each token
         final int n = tokens.size();
         ParsedTokens.Builder output = new ParsedTokens.Builder(n);
@@ -55,14 +65,7 @@ public class DefaultParser implements MessageParser {
                 output.add(token);
                 continue;
             }
-            //add setting that allows "dynamic placeholder" TODO
-            String target = token.getValue();
-            if (!lexicon.has(target)) {
-                //Send warning that target is not contained
-                LanguageErrorHandler errors = language.getErrorHandler();
-                errors.handle(new ParseError(ParseErrorType.NOTIFY,
-                        "placeholder " + target + " is dynamic"));
-            }
+            validate(language, lexicon, token.getValue());
             output.add(token);
         }
         //Trim the actual list reference to its actual size
@@ -70,4 +73,23 @@ public class DefaultParser implements MessageParser {
         return output.build();
     }
 
+    /**
+     * Validates the placeholder having given {@code target} name and
+     * notifies the language's error handler if the placeholder is
+     * dynamic.
+     *
+     * @param language the target language
+     * @param lexicon  the lexicon of {@code language}
+     * @param target   the target placeholder name
+     */
+    protected void validate(Language language, Lexicon lexicon, String target) {
+        //add setting that allows "dynamic placeholder" TODO
+        if (!lexicon.has(target)) {
+            //Send notification that target is not contained, if enabled
+            LanguageErrorHandler errors = language.getErrorHandler();
+            if (errors.isEnabled(ParseErrorType.NOTIFY))
+                errors.handle(ParseError.dynamic(target));
+        }
+    }
+
 }
@@ -1,17 +1,18 @@
 package io.github.sauranbone.plang.core.parsing.impl;
 
-import io.github.sauranbone.plang.core.PlangUtils;
 import io.github.sauranbone.plang.core.error.LanguageErrorHandler;
 import io.github.sauranbone.plang.core.error.ParseError;
 import io.github.sauranbone.plang.core.error.ParseErrorType;
 import io.github.sauranbone.plang.core.map.DataBinder;
-import io.github.sauranbone.plang.core.parsing.MessageToken;
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+import io.github.sauranbone.plang.core.map.KnowledgeBinder;
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
 import io.github.sauranbone.plang.core.parsing.MessageTransformer;
 import io.github.sauranbone.plang.core.parsing.ParsedTokens;
 import io.github.sauranbone.plang.core.placeholder.Placeholder;
 import io.github.sauranbone.plang.core.specific.Language;
-import io.github.sauranbone.plang.core.specific.Lexicon;
 
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -22,6 +23,9 @@ import java.util.Objects;
  * <p>Only bound string-, integer- and class-type keys are used off of
  * the provided {@code data} binding map.
  * <p>A literal placeholder is only transformed once.
+ * <p>The tokens are {@link CompiledMessage compiled} once, resolving
+ * every placeholder within the language's lexicon ahead of time, so that
+ * only the given {@code data} is consulted on every transformation.
  * <p>The following table explains the precedences of boundaries and
  * their object key types:
  * <table>
@@ -87,54 +91,243 @@ public class DefaultTransformer implements MessageTransformer {
      * @see DefaultTransformer Normal Transformer Specifications
      */
     @Override
-    @SuppressWarnings("unchecked")
     public String transform(ParsedTokens tokens, Language language, String message, DataBinder data) {
         Objects.requireNonNull(tokens, "Tokens");
         Objects.requireNonNull(language, "Language");
         Objects.requireNonNull(message, "Message");
         Objects.requireNonNull(data, "Data");
         if (tokens.isEmpty()) return message;
-        final StringBuilder builder = new StringBuilder();
-        final Lexicon lexicon = language.getLexicon();
-        //Iterate through every token and check the bindings
-        for (int n = tokens.size(), i = 0, p = 0; i < n; i++) {
-            MessageToken token = tokens.get(i);
-            if (token.isPlaceholder()) {
-                //Process the token and its content compared to this attribs
-                final String val = token.getValue();
-                final int idx = p++;
-                if (data.isBound(idx)) {
-                    builder.append(data.get(idx));
-                    continue;
-                } else if (data.isBound(val)) {
-                    builder.append(data.get(val));
-                    continue;
-                } else if (lexicon.has(val)) {
-                    //Access the placeholder directly and ask for its type
-                    Placeholder<Object> ph = (Placeholder<Object>) lexicon.get(val);
-                    if (ph == null) continue;   //Throw warning
-                    Class<?> type = PlangUtils.getTopSuperclass(ph.getAcceptingType());
-                    if (ph.isTransformative() && data.isBound(type)) {
-                        //TODO also add class boundary if index or string is
-                        // set with a target value that is not null
-                        builder.append(ph.transform(data.get(type)));
-                        continue;
-                    } else if (ph.isStatic() && ph.isNullable()) {
-                        //Get static access or nullable access
-                        builder.append(ph.transform(null));
-                        continue;
-                    }
-                }
-                //TODO Warn that the placeholder is not bound
-                //Send warning that target is not contained
-                LanguageErrorHandler errors = language.getErrorHandler();
-                errors.handle(new ParseError(ParseErrorType.WARNING,
-                        "placeholder " + val + " not bound"));
-            }
-            //Just append the token as literal text
-            builder.append(token.getRaw());
+        final CompiledMessage compiled = CompiledMessage.of(tokens, language);
+        if (compiled.getSlotCount() == 0) return compiled.getLiteral(0);
+        //Size the output by the literals and the values seen so far
+        return render(compiled, data, new StringBuilder(compiled.getEstimatedLength())).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param builder  the target builder to append to
+     * @return the given {@code builder}
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    @Override
+    public StringBuilder transform(ParsedTokens tokens, Language language, String message, DataBinder data, StringBuilder builder) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(builder, "Builder");
+        if (tokens.isEmpty()) return builder.append(message);
+        return render(CompiledMessage.of(tokens, language), data, builder);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param out      the target to append to
+     * @return the given {@code out}
+     * @throws IOException if {@code out} throws an I/O error
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    @Override
+    public <A extends Appendable> A transform(ParsedTokens tokens, Language language, String message, DataBinder data, A out) throws IOException {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(out, "Out");
+        if (tokens.isEmpty()) {
+            out.append(message);
+            return out;
+        }
+        render(CompiledMessage.of(tokens, language), data, (Appendable) out);
+        return out;
+    }
+
+    /**
+     * Renders the given {@code compiled} message into the given
+     * {@code builder}, by appending every literal segment and the resolved
+     * value of every slot in order.
+     * <p>The length of every resolved value is recorded with its slot.
+     *
+     * @param compiled the target compiled message
+     * @param data     the target binding information
+     * @param builder  the target builder to append to
+     * @return the given {@code builder}
+     * @see #resolveSlot(CompiledMessage.Slot, Language, DataBinder, String)
+     * @see CompiledMessage.Slot#recordLength(int)
+     */
+    protected StringBuilder render(CompiledMessage compiled, DataBinder data, StringBuilder builder) {
+        builder.ensureCapacity(builder.length() + compiled.getEstimatedLength());
+        final Language language = compiled.getLanguage();
+        final String key = compiled.getKey();
+        final int n = compiled.getSlotCount();
+        builder.append(compiled.getLiteral(0));
+        final IndexedDataBinder indexed = getIndexed(data);
+        //Iterate through every slot and check the bindings
+        for (int i = 0; i < n; i++) {
+            CompiledMessage.Slot slot = compiled.getSlot(i);
+            Object value;
+            if (indexed != null && indexed.isBound(slot.getIndex())) {
+                //Fastpath positional binder, only resolve unbound indices
+                value = indexed.get(slot.getIndex());
+            } else value = resolveSlot(slot, language, data, key);
+            final int begin = builder.length();
+            builder.append(value);
+            slot.recordLength(builder.length() - begin);
+            builder.append(compiled.getLiteral(i + 1));
         }
-        return builder.toString();
+        return builder;
+    }
+
+    /**
+     * Renders the given {@code compiled} message into the given
+     * {@code out}, by appending every literal segment and the resolved
+     * value of every slot in order.
+     * <p>If {@code out} is a {@link StringBuilder}, the message is
+     * rendered using {@link #render(CompiledMessage, DataBinder,
+     * StringBuilder)}, otherwise every segment is appended to {@code out}
+     * directly, so that no intermediate builder or string is allocated.
+     *
+     * @param compiled the target compiled message
+     * @param data     the target binding information
+     * @param out      the target to append to
+     * @throws IOException if {@code out} throws an I/O error
+     * @see #append(Appendable, Object)
+     */
+    protected void render(CompiledMessage compiled, DataBinder data, Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            render(compiled, data, (StringBuilder) out);
+            return;
+        }
+        final Language language = compiled.getLanguage();
+        final String key = compiled.getKey();
+        final int n = compiled.getSlotCount();
+        out.append(compiled.getLiteral(0));
+        final IndexedDataBinder indexed = getIndexed(data);
+        for (int i = 0; i < n; i++) {
+            CompiledMessage.Slot slot = compiled.getSlot(i);
+            Object value;
+            if (indexed != null && indexed.isBound(slot.getIndex())) {
+                value = indexed.get(slot.getIndex());
+            } else value = resolveSlot(slot, language, data, key);
+            slot.recordLength(append(out, value));
+            out.append(compiled.getLiteral(i + 1));
+        }
+    }
+
+    /**
+     * Appends the given {@code value} to the given {@code out} and
+     * returns the amount of characters appended.
+     * <p>A character sequence is appended as is, any other value is
+     * appended as its string representation.
+     *
+     * @param out   the target to append to
+     * @param value the target value, {@code nullable}
+     * @return the length of the appended value
+     * @throws IOException if {@code out} throws an I/O error
+     */
+    protected static int append(Appendable out, Object value) throws IOException {
+        CharSequence sequence = value instanceof CharSequence ? (CharSequence) value : String.valueOf(value);
+        out.append(sequence);
+        return sequence.length();
+    }
+
+    /**
+     * Returns the positional binder the given {@code data} consists of,
+     * or null if {@code data} is not positional.
+     *
+     * @param data the target binding information
+     * @return the positional binder of {@code data}, {@code nullable}
+     * @see IndexedDataBinder
+     * @see KnowledgeBinder#getData()
+     */
+    protected static IndexedDataBinder getIndexed(DataBinder data) {
+        if (data instanceof KnowledgeBinder)
+            data = ((KnowledgeBinder) data).getData();
+        return data instanceof IndexedDataBinder ? (IndexedDataBinder) data : null;
+    }
+
+    /**
+     * Resolves the given {@code slot} using the given {@code data} and
+     * returns the value that is appended in place of the slot.
+     * <p>If the slot cannot be resolved, a warning is sent to the
+     * language's error handler and the raw placeholder is returned.
+     *
+     * @param slot     the target prepared slot
+     * @param language the target language that should be converted into
+     * @param data     the target binding information
+     * @param key      the key of the transformed message,
+     *                 {@code nullable}
+     * @return the resolved value of the slot, {@code not null}
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    protected Object resolveSlot(CompiledMessage.Slot slot, Language language, DataBinder data, String key) {
+        //Every key has been computed ahead of time, thus look up once
+        Object value = data.lookup(slot.getIndexKey());
+        if (value == null) value = data.lookup(slot.getKey(data.isCaseSensitive()));
+        if (value != null) return value;
+        //Use the resolved placeholder and the modifiers it was compiled with
+        if (slot.isTransformative() && (value = lookupType(slot, data)) != null) {
+            //TODO also add class boundary if index or string is
+            // set with a target value that is not null
+            return slot.getPlaceholder().transform(value);
+        } else if (slot.isConstant()) {
+            //Get static access or nullable access
+            return slot.getPlaceholder().transform(null);
+        }
+        return resolveUnresolved(slot, language, key);
+    }
+
+    /**
+     * Returns the value bound to the type the placeholder of the given
+     * {@code slot} is accepting, or null if there is none.
+     * <p>The accepting type itself is looked up first, so that binders
+     * binding types hierarchically are matched exactly.  Otherwise the
+     * top superclass of the accepting type is looked up, whose value is
+     * only used if it is an instance of the accepting type.
+     *
+     * @param slot the target slot having a transformative placeholder
+     * @param data the target binding information
+     * @return the value bound to the accepting type, {@code nullable}
+     * @see io.github.sauranbone.plang.core.map.DataBindMap#isHierarchical()
+     */
+    protected static Object lookupType(CompiledMessage.Slot slot, DataBinder data) {
+        final Class<?> accepting = slot.getAcceptingType();
+        Object value = data.lookup(accepting);
+        if (value != null || accepting == slot.getType()) return value;
+        value = data.lookup(slot.getType());
+        return accepting.isInstance(value) ? value : null;
+    }
+
+    /**
+     * Handles the given {@code slot} that could not be resolved, by
+     * sending a warning to the language's error handler and returning the
+     * raw placeholder to be appended instead.
+     * <p>The warning is only allocated if the error handler has warnings
+     * enabled, and carries the key of the transformed message if known.
+     *
+     * @param slot     the target unresolved slot
+     * @param language the target language that should be converted into
+     * @param key      the key of the transformed message,
+     *                 {@code nullable}
+     * @return the raw placeholder of {@code slot}
+     * @see LanguageErrorHandler#isEnabled(ParseErrorType)
+     */
+    protected String resolveUnresolved(CompiledMessage.Slot slot, Language language, String key) {
+        //Send warning that target is not contained, if enabled
+        LanguageErrorHandler errors = language.getErrorHandler();
+        if (errors.isEnabled(ParseErrorType.WARNING))
+            errors.handle(ParseError.unbound(slot.getName(), slot.getIndex(), key));
+        return slot.getRaw();
     }
 
 }
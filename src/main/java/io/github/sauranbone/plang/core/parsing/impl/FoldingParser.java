@@ -0,0 +1,64 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
+import io.github.sauranbone.plang.core.parsing.MessageToken;
+import io.github.sauranbone.plang.core.parsing.ParsedTokens;
+import io.github.sauranbone.plang.core.specific.Language;
+
+import java.util.List;
+
+/**
+ * Parser implementation that validates tokens equal to the
+ * {@link DefaultParser}, but additionally marks the parsed tokens to have
+ * their static placeholders constant folded.
+ * <p>Once the tokens are compiled, every static and nullable placeholder,
+ * such as one created by
+ * {@link io.github.sauranbone.plang.core.placeholder.Placeholder#of(String,
+ * Object)}, is transformed once and inlined into its adjacent literals,
+ * which are merged into a single literal.  A message beginning with a
+ * static prefix is thus rendered like a message without that placeholder:
+ * <pre><code>
+ *     "{prefix} Hello {user}!"  ->  "[Server] Hello " {user} "!"
+ * </code></pre>
+ * <p>The folded form is cached with the compiled message and thereby
+ * discarded whenever the language's lexicon or the modifiers of any
+ * placeholder are mutated, so that replacing or removing a static
+ * placeholder, or disabling its static modifier, is reflected by the next
+ * transformation.  Indices of the remaining placeholders are still counted
+ * among all placeholders of the message.
+ * <p>As a folded placeholder no longer occupies a slot, it cannot be
+ * overridden by binding its index or name anymore, and its value is only
+ * evaluated once per lexicon revision.  This parser is thus opt-in and
+ * selected on a per-language basis.
+ *
+ * @author agent
+ * @version 16:14 CEST, 17.10.2026
+ * @see ParsedTokens#toFolding()
+ * @see CompiledMessage#compile(ParsedTokens, Language)
+ * @since 1.0
+ */
+public class FoldingParser extends DefaultParser {
+
+    /**
+     * A default folding parser instance.
+     *
+     * @see FoldingParser
+     */
+    public static final FoldingParser SINGLETON = new FoldingParser();
+
+    /**
+     * Allocates a new folding parser instance.
+     *
+     * @see #SINGLETON
+     */
+    protected FoldingParser() {
+        //Hide constructor for singleton but to still allow in inheritance
+    }
+
+    @Override
+    public ParsedTokens parse(Language language, List<MessageToken> tokens) {
+        ParsedTokens parsed = super.parse(language, tokens);
+        return parsed.isEmpty() ? parsed : parsed.toFolding();
+    }
+
+}
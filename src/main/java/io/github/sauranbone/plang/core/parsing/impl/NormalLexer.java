@@ -1,14 +1,20 @@
 package io.github.sauranbone.plang.core.parsing.impl;
 
 import io.github.sauranbone.plang.core.PlangUtils;
+import io.github.sauranbone.plang.core.parsing.MessageToken;
 import io.github.sauranbone.plang.core.specific.Language;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 /**
- * A normal and default lexer using regex to separate placeholders and
- * literal text from each other.
+ * A normal and default lexer separating placeholders and literal text
+ * from each other.
+ * <p>Tokenization is done by a {@link ScanningLexer} having the same
+ * delimiters, which yields the same tokens as the regular expression
+ * lexeme of this lexer without the use of a regex engine.  The lexeme is
+ * still accessible using {@link #getLexeme()}.
  *
  * @author Vinzent Zeband
  * @version 03:28 CET, 13.02.2022
@@ -35,6 +41,8 @@ public class NormalLexer extends RegexLexer {
 
     final String opening, closing;
 
+    private final ScanningLexer scanner;
+
     /**
      * Allocates a normal lexer having an {@code opening} and
      * {@code closing} as content around a target placeholder in order to
@@ -53,6 +61,23 @@ public class NormalLexer extends RegexLexer {
                 + PlangUtils.escapeRegex(closing)));
         this.opening = opening;
         this.closing = closing;
+        this.scanner = new ScanningLexer(opening, closing);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The given {@code content} is tokenized by scanning it for this
+     * opening and closing delimiters in a single pass.
+     *
+     * @param language the target language containing the necessary
+     *                 processors
+     * @param content  the target content that is tokenized
+     * @return the tokenized tokens of the {@code content}
+     * @see ScanningLexer
+     */
+    @Override
+    public List<MessageToken> tokenize(Language language, String content) {
+        return scanner.tokenize(language, content);
     }
 
     /**
@@ -0,0 +1,162 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.parsing.CompactTokens;
+import io.github.sauranbone.plang.core.parsing.MessageLexer;
+import io.github.sauranbone.plang.core.parsing.MessageToken;
+import io.github.sauranbone.plang.core.specific.Language;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lexer implementation that separates placeholders and literal text from
+ * each other by scanning the content for the placeholder delimiters in a
+ * single pass, without the use of regular expressions.
+ * <p>A placeholder is a sequence that starts with the opening delimiter,
+ * is followed by at least one character that is not part of any
+ * delimiter and ends with the closing delimiter:
+ * <pre><code>
+ *     Example: "Welcome {userName}!"
+ * </code></pre>
+ * <p>The resulting tokens are equal to the tokens produced by a
+ * {@link RegexLexer} using the lexeme of a {@link NormalLexer} with the
+ * same delimiters.
+ *
+ * @author agent
+ * @version 15:55 CEST, 17.10.2026
+ * @see NormalLexer
+ * @since 1.0
+ */
+public class ScanningLexer implements MessageLexer {
+
+    final String opening, closing;
+
+    //Characters that cannot be part of a placeholder name
+    private final char[] delimiters;
+
+    //True if the closing sequence can start within a placeholder name
+    private final boolean backtrack;
+
+    /**
+     * Allocates a scanning lexer having an {@code opening} and
+     * {@code closing} as content around a target placeholder in order to
+     * indicate that the sequence is meant to be a placeholder.
+     * <p>If either {@code opening} or {@code closing} is null, it is
+     * treated as empty sequence.
+     *
+     * @param opening the leading characters before a placeholder name
+     * @param closing the tailing characters after a placeholder name
+     */
+    public ScanningLexer(String opening, String closing) {
+        this.opening = StringUtils.defaultString(opening);
+        this.closing = StringUtils.defaultString(closing);
+        StringBuilder chars = new StringBuilder();
+        String all = this.opening + this.closing;
+        for (int n = all.length(), i = 0; i < n; i++) {
+            char ch = all.charAt(i);
+            //The dot is always accepted within a placeholder name
+            if (ch != '.' && chars.indexOf(String.valueOf(ch)) == -1)
+                chars.append(ch);
+        }
+        this.delimiters = chars.toString().toCharArray();
+        this.backtrack = !this.closing.isEmpty()
+                && !isDelimiter(this.closing.charAt(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The returned tokens are {@link CompactTokens}, that are only
+     * pointing into the given {@code content} and thus do not copy any
+     * sub-content of it.
+     *
+     * @param language the target language containing the necessary
+     *                 processors
+     * @param content  the target content that is tokenized
+     * @return the compact tokens of the {@code content}
+     */
+    @Override
+    public List<MessageToken> tokenize(Language language, String content) {
+        Objects.requireNonNull(language);
+        if (StringUtils.isEmpty(content))
+            return new CompactTokens.Builder(StringUtils.EMPTY, 0).build();
+        CompactTokens.Builder stack = new CompactTokens.Builder(content);
+        final int n = content.length();
+        final int opn = opening.length();
+        final int cls = closing.length();
+        int end = 0;
+        for (int from = 0; from < n; ) {
+            final int beg = content.indexOf(opening, from);
+            if (beg == -1) break;
+            final int val = beg + opn;
+            final int cps = findClosing(content, val);
+            if (cps == -1) {
+                //No placeholder at this position, continue afterwards
+                from = beg + 1;
+                continue;
+            }
+            if (beg > end) {
+                //Add anything before (in content scope) as literal
+                stack.addLiteral(end, beg);
+            }
+            end = from = cps + cls;
+            stack.addPlaceholder(beg, end, content.substring(val, cps));
+        }
+        if (end < n) {
+            //Add the remaining tail as literal
+            stack.addLiteral(end, n);
+        }
+        return stack.build();
+    }
+
+    /**
+     * Returns the leading characters before a placeholder name.
+     *
+     * @return the leading characters before entering a placeholder,
+     * {@code not null}
+     */
+    public String getOpening() {
+        return opening;
+    }
+
+    /**
+     * Returns the closing characters after a placeholder name.
+     *
+     * @return the tailing characters after entering a placeholder,
+     * {@code not null}
+     */
+    public String getClosing() {
+        return closing;
+    }
+
+    /**
+     * Returns the index at which the closing sequence of a placeholder,
+     * whose name starts at {@code val}, is located within {@code content}.
+     *
+     * @param content the content that is scanned
+     * @param val     the index at which the placeholder name starts
+     * @return the index of the closing sequence, or -1 if the placeholder
+     * name is empty or not closed
+     */
+    private int findClosing(String content, int val) {
+        final int n = content.length();
+        int i = val;
+        while (i < n && !isDelimiter(content.charAt(i))) i++;
+        if (!backtrack) {
+            return i > val && content.startsWith(closing, i) ? i : -1;
+        }
+        //The closing can also start within the name, prefer the longest
+        for (; i > val; i--) {
+            if (content.startsWith(closing, i)) return i;
+        }
+        return -1;
+    }
+
+    private boolean isDelimiter(char ch) {
+        for (char d : delimiters) {
+            if (d == ch) return true;
+        }
+        return false;
+    }
+
+}
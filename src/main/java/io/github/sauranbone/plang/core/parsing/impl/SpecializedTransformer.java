@@ -0,0 +1,331 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
+import io.github.sauranbone.plang.core.parsing.ParsedTokens;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.specific.Language;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Message transformer that specializes every compiled message into its
+ * own renderer, whose segments are resolved once for every placeholder
+ * rather than on every transformation.
+ * <p>Each placeholder slot of a message is turned into a segment that
+ * only performs the lookups its placeholder can ever succeed with, as
+ * decided by the modifiers the slot has been compiled with.  For instance,
+ * slots without a transformative placeholder never look up any type and
+ * only constant placeholders fall back to their constant value.  Messages
+ * without any placeholder are rendered as a single constant and the
+ * resulting builder is presized to the
+ * {@link CompiledMessage#getEstimatedLength() estimated length} of the
+ * message.
+ * <p>The renderer is derived from and thus cached with the
+ * {@link CompiledMessage} of a message, so it is automatically discarded
+ * once the language's lexicon is mutated.
+ * <p>The resulting sequences and the precedences of boundaries are equal
+ * to the ones of the {@link DefaultTransformer}.  This transformer is
+ * meant for messages that are transformed very frequently and can be
+ * selected on a per-language basis:
+ * <pre><code>
+ *     new Language(name, abbreviation, lexicon, NormalLexer.DEFAULT_LEXER,
+ *          DefaultParser.SINGLETON, SpecializedTransformer.SINGLETON,
+ *          DefaultErrorHandler.SINGLETON);
+ * </code></pre>
+ *
+ * @author agent
+ * @version 16:00 CEST, 17.10.2026
+ * @see DefaultTransformer
+ * @see CompiledMessage#derive(Object, java.util.function.Function)
+ * @since 1.0
+ */
+public class SpecializedTransformer extends DefaultTransformer {
+
+    /**
+     * Default specialized transformer instance.
+     *
+     * @see SpecializedTransformer
+     */
+    transient public static final SpecializedTransformer SINGLETON = new SpecializedTransformer();
+
+    /**
+     * Allocates a new specialized transformer.
+     *
+     * @see #SINGLETON
+     */
+    protected SpecializedTransformer() {
+        //Hide constructor for singleton but to still allow in inheritance
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @return the translated {@code tokens} sequence
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    @Override
+    public String transform(ParsedTokens tokens, Language language, String message, DataBinder data) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        if (tokens.isEmpty()) return message;
+        return getRenderer(CompiledMessage.of(tokens, language)).render(data);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param builder  the target builder to append to
+     * @return the given {@code builder}
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    @Override
+    public StringBuilder transform(ParsedTokens tokens, Language language, String message, DataBinder data, StringBuilder builder) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(builder, "Builder");
+        if (tokens.isEmpty()) return builder.append(message);
+        return getRenderer(CompiledMessage.of(tokens, language)).render(data, builder);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param out      the target to append to
+     * @return the given {@code out}
+     * @throws IOException if {@code out} throws an I/O error
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    @Override
+    public <A extends Appendable> A transform(ParsedTokens tokens, Language language, String message, DataBinder data, A out) throws IOException {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(out, "Out");
+        if (tokens.isEmpty()) {
+            out.append(message);
+            return out;
+        }
+        getRenderer(CompiledMessage.of(tokens, language)).render(data, (Appendable) out);
+        return out;
+    }
+
+    /**
+     * Returns the renderer of the given {@code compiled} message, which
+     * is specialized on first access and then cached with the message.
+     *
+     * @param compiled the target compiled message
+     * @return the specialized renderer of {@code compiled}
+     * @throws NullPointerException if {@code compiled} is null
+     */
+    public Renderer getRenderer(CompiledMessage compiled) {
+        Objects.requireNonNull(compiled, "Compiled message");
+        return compiled.derive(this, this::specialize);
+    }
+
+    /**
+     * Specializes the given {@code compiled} message into a new renderer.
+     *
+     * @param compiled the target compiled message
+     * @return the newly allocated renderer
+     */
+    protected Renderer specialize(CompiledMessage compiled) {
+        final int n = compiled.getSlotCount();
+        Segment[] segments = new Segment[n];
+        for (int i = 0; i < n; i++) {
+            segments[i] = specialize(compiled.getSlot(i), compiled.getLanguage(), compiled.getKey());
+        }
+        return new Renderer(compiled, segments);
+    }
+
+    /**
+     * Specializes the given {@code slot} into a segment, that only
+     * performs the lookups the placeholder of the slot can succeed with.
+     * <p>The branches are chosen using the modifiers the slot has been
+     * compiled with, which is valid for the lifetime of the renderer, as
+     * the message is recompiled whenever these modifiers are updated:
+     * <ul>
+     *     <li>A constant placeholder never looks up its accepting type
+     *     and falls back to its constant value.</li>
+     *     <li>A transformative placeholder looks up its accepting type,
+     *     using a single lookup if that type is its own top superclass.
+     *     </li>
+     *     <li>Any other slot only looks up its index and name.</li>
+     * </ul>
+     *
+     * @param slot     the target slot
+     * @param language the language the slot has been compiled in
+     * @param key      the key of the message, {@code nullable}
+     * @return the newly allocated segment
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    protected Segment specialize(CompiledMessage.Slot slot, Language language, String key) {
+        final Integer index = slot.getIndexKey();
+        final String name = slot.getName(), lowerName = slot.getKey();
+        final Placeholder<Object> ph = slot.getPlaceholder();
+        if (slot.isConstant()) {
+            return data -> {
+                Object value = data.lookup(index);
+                if (value == null) value = data.lookup(data.isCaseSensitive() ? name : lowerName);
+                return value != null ? value : ph.transform(null);
+            };
+        }
+        if (slot.isTransformative() && slot.getAcceptingType() == slot.getType()) {
+            final Class<?> accepting = slot.getAcceptingType();
+            return data -> {
+                Object value = data.lookup(index);
+                if (value == null) value = data.lookup(data.isCaseSensitive() ? name : lowerName);
+                if (value != null) return value;
+                if ((value = data.lookup(accepting)) != null) return ph.transform(value);
+                return resolveUnresolved(slot, language, key);
+            };
+        }
+        if (slot.isTransformative()) {
+            return data -> {
+                Object value = data.lookup(index);
+                if (value == null) value = data.lookup(data.isCaseSensitive() ? name : lowerName);
+                if (value != null) return value;
+                if ((value = lookupType(slot, data)) != null) return ph.transform(value);
+                return resolveUnresolved(slot, language, key);
+            };
+        }
+        return data -> {
+            Object value = data.lookup(index);
+            if (value == null) value = data.lookup(data.isCaseSensitive() ? name : lowerName);
+            return value != null ? value : resolveUnresolved(slot, language, key);
+        };
+    }
+
+    /**
+     * Specialized part of a renderer, that resolves the value of a single
+     * slot.
+     */
+    @FunctionalInterface
+    public interface Segment {
+
+        /**
+         * Returns the value rendered in place of this segment's slot
+         * using the given {@code data}.
+         *
+         * @param data the target binding information
+         * @return the resolved value, {@code not null}
+         */
+        Object resolve(DataBinder data);
+
+    }
+
+    /**
+     * Immutable renderer of a single compiled message, consisting of its
+     * leading literal and a specialized segment for every slot.
+     */
+    public static final class Renderer {
+
+        private final CompiledMessage compiled;
+        private final String head;
+        private final Segment[] segments;
+        private final CompiledMessage.Slot[] slots;
+
+        //The literal segment following every slot
+        private final String[] tails;
+
+        Renderer(CompiledMessage compiled, Segment[] segments) {
+            this.compiled = compiled;
+            this.head = compiled.getLiteral(0);
+            this.segments = segments;
+            this.slots = new CompiledMessage.Slot[segments.length];
+            this.tails = new String[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                slots[i] = compiled.getSlot(i);
+                tails[i] = compiled.getLiteral(i + 1);
+            }
+        }
+
+        /**
+         * Renders the message using the given {@code data}.
+         *
+         * @param data the target binding information
+         * @return the rendered message
+         * @throws NullPointerException if {@code data} is null
+         */
+        public String render(DataBinder data) {
+            Objects.requireNonNull(data, "Data");
+            if (segments.length == 0) return head;
+            return render(data, new StringBuilder(getCapacity())).toString();
+        }
+
+        /**
+         * Renders the message using the given {@code data} into the given
+         * {@code builder}.
+         * <p>The length of every resolved value is recorded with its slot.
+         *
+         * @param data    the target binding information
+         * @param builder the target builder to append to
+         * @return the given {@code builder}
+         * @throws NullPointerException if any argument is null
+         */
+        public StringBuilder render(DataBinder data, StringBuilder builder) {
+            Objects.requireNonNull(data, "Data");
+            builder.append(head);
+            for (int i = 0; i < segments.length; i++) {
+                final int begin = builder.length();
+                builder.append(segments[i].resolve(data));
+                slots[i].recordLength(builder.length() - begin);
+                builder.append(tails[i]);
+            }
+            return builder;
+        }
+
+        /**
+         * Renders the message using the given {@code data} into the given
+         * {@code out}, appending every segment to it directly unless it
+         * is a {@link StringBuilder}.
+         * <p>The length of every resolved value is recorded with its slot.
+         *
+         * @param data the target binding information
+         * @param out  the target to append to
+         * @throws IOException          if {@code out} throws an I/O error
+         * @throws NullPointerException if any argument is null
+         */
+        public void render(DataBinder data, Appendable out) throws IOException {
+            if (out instanceof StringBuilder) {
+                render(data, (StringBuilder) out);
+                return;
+            }
+            Objects.requireNonNull(data, "Data");
+            out.append(head);
+            for (int i = 0; i < segments.length; i++) {
+                slots[i].recordLength(append(out, segments[i].resolve(data)));
+                out.append(tails[i]);
+            }
+        }
+
+        /**
+         * Returns the initial capacity the output is presized with.
+         *
+         * @return the estimated length of a rendered message
+         * @see CompiledMessage#getEstimatedLength()
+         */
+        public int getCapacity() {
+            return compiled.getEstimatedLength();
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+import io.github.sauranbone.plang.core.parsing.ByteSink;
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
+import io.github.sauranbone.plang.core.parsing.ParsedTokens;
+import io.github.sauranbone.plang.core.specific.Language;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Message transformer that is able to render messages directly into
+ * UTF-8 encoded bytes, in addition to the specifications of the
+ * {@link DefaultTransformer}.
+ * <p>The literal segments of every message are encoded only once and
+ * cached with the {@link CompiledMessage} of the message.  Rendering a
+ * message into a {@link ByteBuffer} or {@link ByteSink} then only copies
+ * those bytes and encodes the values of the placeholders, without
+ * building and encoding an intermediate string.
+ * <p>Messages are transformed into strings as by the default transformer,
+ * so this transformer can be selected on a per-language basis for any
+ * language whose messages are mainly written to the network.
+ *
+ * @author agent
+ * @version 16:10 CEST, 17.10.2026
+ * @see DefaultTransformer
+ * @see ByteSink
+ * @since 1.0
+ */
+public class Utf8Transformer extends DefaultTransformer {
+
+    /**
+     * Default UTF-8 transformer instance.
+     *
+     * @see Utf8Transformer
+     */
+    transient public static final Utf8Transformer SINGLETON = new Utf8Transformer();
+
+    /**
+     * Allocates a new UTF-8 transformer.
+     *
+     * @see #SINGLETON
+     */
+    protected Utf8Transformer() {
+        //Hide constructor for singleton but to still allow in inheritance
+    }
+
+    /**
+     * Transforms the given {@code tokens} like
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}, but
+     * puts the UTF-8 encoded result into the given {@code out} buffer.
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param out      the target buffer to put the bytes into
+     * @return the given {@code out}
+     * @throws NullPointerException                if any argument is null
+     * @throws java.nio.BufferOverflowException    if {@code out} has not
+     *                                             enough remaining space,
+     *                                             leaving it partially
+     *                                             written
+     * @throws java.nio.ReadOnlyBufferException    if {@code out} is
+     *                                             read-only
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    public ByteBuffer transform(ParsedTokens tokens, Language language, String message, DataBinder data, ByteBuffer out) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(out, "Out");
+        if (tokens.isEmpty()) {
+            ByteSink.encodeUtf8(message, out);
+            return out;
+        }
+        final CompiledMessage compiled = CompiledMessage.of(tokens, language);
+        final byte[][] literals = getLiterals(compiled);
+        final IndexedDataBinder indexed = getIndexed(data);
+        out.put(literals[0]);
+        for (int n = compiled.getSlotCount(), i = 0; i < n; i++) {
+            CompiledMessage.Slot slot = compiled.getSlot(i);
+            slot.recordLength(encode(resolve(slot, language, compiled.getKey(), data, indexed), out));
+            out.put(literals[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * Transforms the given {@code tokens} like
+     * {@link #transform(ParsedTokens, Language, String, DataBinder)}, but
+     * puts the UTF-8 encoded result into the given {@code sink}.
+     *
+     * @param tokens   the target already parsed tokens of a message
+     * @param language the target language that should be converted into
+     * @param message  the target message that is transformed
+     * @param data     the target binding information
+     * @param sink     the target sink to put the bytes into
+     * @return the given {@code sink}
+     * @throws NullPointerException if any argument is null
+     * @see DefaultTransformer Normal Transformer Specifications
+     */
+    public ByteSink transform(ParsedTokens tokens, Language language, String message, DataBinder data, ByteSink sink) {
+        Objects.requireNonNull(tokens, "Tokens");
+        Objects.requireNonNull(language, "Language");
+        Objects.requireNonNull(message, "Message");
+        Objects.requireNonNull(data, "Data");
+        Objects.requireNonNull(sink, "Sink");
+        if (tokens.isEmpty()) return sink.putUtf8(message);
+        final CompiledMessage compiled = CompiledMessage.of(tokens, language);
+        final byte[][] literals = getLiterals(compiled);
+        final IndexedDataBinder indexed = getIndexed(data);
+        //Every char is encoded into at least one byte
+        sink.ensureRemaining(compiled.getEstimatedLength());
+        sink.put(literals[0]);
+        for (int n = compiled.getSlotCount(), i = 0; i < n; i++) {
+            CompiledMessage.Slot slot = compiled.getSlot(i);
+            slot.recordLength(encode(resolve(slot, language, compiled.getKey(), data, indexed), sink));
+            sink.put(literals[i + 1]);
+        }
+        return sink;
+    }
+
+    /**
+     * Returns the UTF-8 encoded literal segments of the given
+     * {@code compiled} message, which are encoded on first access and
+     * then cached with the message.
+     *
+     * @param compiled the target compiled message
+     * @return the encoded literal segments, in order
+     * @throws NullPointerException if {@code compiled} is null
+     */
+    protected byte[][] getLiterals(CompiledMessage compiled) {
+        Objects.requireNonNull(compiled, "Compiled message");
+        return compiled.derive(this, c -> {
+            byte[][] literals = new byte[c.getSlotCount() + 1][];
+            for (int i = 0; i < literals.length; i++) {
+                literals[i] = c.getLiteral(i).getBytes(StandardCharsets.UTF_8);
+            }
+            return literals;
+        });
+    }
+
+    private Object resolve(CompiledMessage.Slot slot, Language language, String key, DataBinder data, IndexedDataBinder indexed) {
+        if (indexed != null && indexed.isBound(slot.getIndex())) {
+            //Fastpath positional binder, only resolve unbound indices
+            return indexed.get(slot.getIndex());
+        }
+        return resolveSlot(slot, language, data, key);
+    }
+
+    /**
+     * Encodes the given {@code value} into the given {@code out} buffer,
+     * without converting sequences and integral numbers into a string.
+     *
+     * @return the amount of chars the value consists of
+     */
+    private static int encode(Object value, ByteBuffer out) {
+        if (isIntegral(value)) return ByteSink.encodeDecimal(((Number) value).longValue(), out);
+        CharSequence sequence = value instanceof CharSequence
+                ? (CharSequence) value : String.valueOf(value);
+        ByteSink.encodeUtf8(sequence, out);
+        return sequence.length();
+    }
+
+    /**
+     * Encodes the given {@code value} into the given {@code sink}, without
+     * converting sequences and integral numbers into a string.
+     *
+     * @return the amount of chars the value consists of
+     */
+    private static int encode(Object value, ByteSink sink) {
+        if (isIntegral(value)) return sink.putDecimal(((Number) value).longValue());
+        CharSequence sequence = value instanceof CharSequence
+                ? (CharSequence) value : String.valueOf(value);
+        sink.putUtf8(sequence);
+        return sequence.length();
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte;
+    }
+
+}
@@ -7,6 +7,7 @@ import static io.github.sauranbone.plang.core.placeholder.PlaceholderModifier.*;
 
 import java.io.Serializable;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Placeholder class containing methods to transform incoming data and
@@ -26,6 +27,10 @@ import java.util.Objects;
  * The syntax in the given example is relatively easy, as it only requires
  * curly brackets to surround the target literal placeholder in order to
  * point to an actual placeholder object in memory.
+ * <p>The modifiers of a placeholder are read without any locking, and
+ * every update of them increments the {@link #getModifierRevision()
+ * modifier revision}, so that processors resolving modifiers ahead of
+ * time can determine whenever their resolution is outdated.
  *
  * @author Vinzent Zeband
  * @version 23:34 CET, 12.02.2022
@@ -33,10 +38,13 @@ import java.util.Objects;
  */
 public abstract class Placeholder<T> implements Serializable, PlangBitmask, Transformer<T> {
 
+    //Incremented after every update of the modifiers of any placeholder
+    private static final AtomicInteger MODIFIER_REVISION = new AtomicInteger();
+
     final String name;
 
-    //The modifiers of the placeholder
-    private int modifiers;
+    //The modifiers of the placeholder, written while synchronized
+    private volatile int modifiers;
 
     //The T parameter type of the placeholder
     private final Class<T> target;
@@ -157,7 +165,7 @@ public abstract class Placeholder<T> implements Serializable, PlangBitmask, Tran
      * @see PlaceholderModifier#STATIC
      * @see PlaceholderModifier#isStatic(int)
      */
-    public synchronized final boolean isStatic() {
+    public final boolean isStatic() {
         return PlaceholderModifier.isStatic(modifiers);
     }
 
@@ -169,7 +177,7 @@ public abstract class Placeholder<T> implements Serializable, PlangBitmask, Tran
      * @see PlaceholderModifier#NULLABLE
      * @see PlaceholderModifier#isNullable(int)
      */
-    public synchronized final boolean isNullable() {
+    public final boolean isNullable() {
         return PlaceholderModifier.isStatic(modifiers);
     }
 
@@ -182,19 +190,34 @@ public abstract class Placeholder<T> implements Serializable, PlangBitmask, Tran
      * @see PlaceholderModifier
      */
     @Override
-    public synchronized final int getModifiers() {
+    public final int getModifiers() {
         return modifiers;
     }
 
     /**
-     * Updates this modifiers bitmask to the given {@code bitmask}.
+     * Updates this modifiers bitmask to the given {@code bitmask} and
+     * increments the modifier revision.
      *
      * @param bitmask the new bitmask modifiers
      * @see PlaceholderModifier
+     * @see #getModifierRevision()
      */
     @Override
     public synchronized final void setModifiers(int bitmask) {
         this.modifiers = bitmask;
+        MODIFIER_REVISION.incrementAndGet();
+    }
+
+    /**
+     * Returns the concurrent revision of the modifiers of all
+     * placeholders, that is incremented whenever the modifiers of any
+     * placeholder are updated.
+     *
+     * @return the concurrent modifier revision
+     * @see io.github.sauranbone.plang.core.specific.Lexicon#getRevision()
+     */
+    public static int getModifierRevision() {
+        return MODIFIER_REVISION.get();
     }
 
     /**
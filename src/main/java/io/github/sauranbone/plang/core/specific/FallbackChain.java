@@ -0,0 +1,205 @@
+package io.github.sauranbone.plang.core.specific;
+
+import io.github.sauranbone.plang.core.exception.MessageNotFoundException;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Chain of languages, whose registries are consulted in order to look up
+ * a message that might not be translated in every language, such as
+ * {@code en-GB -> en}.
+ * <p>A miss is reported by an empty optional or a given default message,
+ * thus never allocating any exception.  The position of the registry that
+ * holds a key is memoized, so that looking up a key that is only
+ * translated in a later language does not probe every preceding registry
+ * again.  Misses are not memoized, so that looking up arbitrary keys does
+ * not grow the memo, which is thus bounded by the keys held by any
+ * registry.  A memoized position is validated on every lookup, so that
+ * removed messages are not returned.
+ * <p>The registry of every language and its {@link
+ * MessageRegistry#getRevision() revision} are read on every lookup, and
+ * every memoized position is discarded once any registry has been
+ * replaced or has bound a message, so that messages added to a preceding
+ * registry are found by the next lookup.
+ *
+ * @author agent
+ * @version 16:20 CEST, 17.10.2026
+ * @see MessageRegistry#find(String)
+ * @since 1.0
+ */
+public class FallbackChain {
+
+    //Supplier of a missing message, used to not throw on a miss
+    private static final Supplier<Message> MISSING = () -> null;
+
+    private final Language[] languages;
+
+    //Positions of the registries holding a key, mapped by the key
+    private final Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    //The registries and their revisions the positions are memoized at
+    private volatile Stamp stamp;
+
+    /**
+     * Allocates a new chain consulting the registries of the given
+     * {@code languages} in order.
+     *
+     * @param languages the target languages in order of their priority
+     * @throws NullPointerException     if {@code languages} or any
+     *                                  language contained is null
+     * @throws IllegalArgumentException if {@code languages} is empty
+     */
+    public FallbackChain(Language... languages) {
+        Objects.requireNonNull(languages, "Languages");
+        if (languages.length == 0)
+            throw new IllegalArgumentException("Chain cannot be empty");
+        for (Language language : languages) {
+            Objects.requireNonNull(language, "Language");
+        }
+        this.languages = languages.clone();
+        this.stamp = new Stamp(this.languages);
+    }
+
+    /**
+     * Returns the message bound to the given {@code index} within the
+     * first registry of this chain holding it, or an empty optional if no
+     * registry is holding it.
+     *
+     * @param index the target key to be retrieved
+     * @return the optional message that is bound at {@code index}
+     * @throws NullPointerException if {@code index} is null
+     */
+    public Optional<Message> find(String index) {
+        return Optional.ofNullable(get(index, (Message) null));
+    }
+
+    /**
+     * Returns the message bound to the given {@code index} within the
+     * first registry of this chain holding it, or the given {@code def} if
+     * no registry is holding it.
+     *
+     * @param index the target key to be retrieved
+     * @param def   the default message if {@code index} cannot be
+     *              resolved, {@code nullable}
+     * @return the target message that is bound at {@code index}, or
+     * {@code def}
+     * @throws NullPointerException if {@code index} is null
+     */
+    public Message get(String index, Message def) {
+        Objects.requireNonNull(index, "Index");
+        final Stamp stamp = validate();
+        Position position = positions.get(index);
+        if (position != null && position.stamp == stamp) {
+            Message message = lookup(position.index, index);
+            if (message != null) return message;
+        }
+        //Locate the first registry holding the key and memoize it
+        for (int i = 0; i < languages.length; i++) {
+            Message message = lookup(i, index);
+            if (message == null) continue;
+            positions.put(index, new Position(i, stamp));
+            return message;
+        }
+        //Forget a removed key, as misses are not memoized
+        if (position != null) positions.remove(index, position);
+        return def;
+    }
+
+    /**
+     * Returns the message bound to the given {@code index} within the
+     * first registry of this chain holding it.
+     *
+     * @param index the target key to be retrieved
+     * @return the target message that is bound at {@code index}
+     * @throws NullPointerException     if {@code index} is null
+     * @throws MessageNotFoundException if no registry is holding
+     *                                  {@code index}
+     */
+    public Message get(String index) {
+        Message message = get(index, (Message) null);
+        if (message != null) return message;
+        throw new MessageNotFoundException(index, languages[languages.length - 1].getRegistry());
+    }
+
+    /**
+     * Clears every memoized position.
+     * <p>This is only required if a registry of this chain has been
+     * mutated through its {@link MessageRegistry#getMap() backing map},
+     * as any other mutation is detected by the next lookup.
+     */
+    public void invalidate() {
+        stamp = new Stamp(languages);
+        positions.clear();
+    }
+
+    /**
+     * Returns the languages of this chain in order of their priority.
+     *
+     * @return the immutable list of languages
+     */
+    public List<Language> getLanguages() {
+        return Collections.unmodifiableList(Arrays.asList(languages));
+    }
+
+    private Message lookup(int position, String index) {
+        return languages[position].getRegistry().get(index, MISSING);
+    }
+
+    /**
+     * Returns the current stamp of this chain, discarding every memoized
+     * position if any registry has been replaced or mutated.
+     *
+     * @return the valid stamp, {@code not null}
+     */
+    private Stamp validate() {
+        Stamp stamp = this.stamp;
+        if (stamp.isValid(languages)) return stamp;
+        this.stamp = stamp = new Stamp(languages);
+        positions.clear();
+        return stamp;
+    }
+
+    /**
+     * Immutable snapshot of the registries of a chain and their revisions.
+     */
+    private static final class Stamp {
+
+        private final MessageRegistry[] registries;
+        private final int[] revisions;
+
+        Stamp(Language[] languages) {
+            registries = new MessageRegistry[languages.length];
+            revisions = new int[languages.length];
+            for (int i = 0; i < languages.length; i++) {
+                registries[i] = languages[i].getRegistry();
+                revisions[i] = registries[i].getRevision();
+            }
+        }
+
+        boolean isValid(Language[] languages) {
+            for (int i = 0; i < languages.length; i++) {
+                MessageRegistry registry = languages[i].getRegistry();
+                if (registry != registries[i] || registry.getRevision() != revisions[i]) return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Memoized position of the registry holding a key, that is only valid
+     * as long as the stamp it has been memoized at.
+     */
+    private static final class Position {
+
+        private final int index;
+        private final Stamp stamp;
+
+        Position(int index, Stamp stamp) {
+            this.index = index;
+            this.stamp = stamp;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package io.github.sauranbone.plang.core.specific;
 
 import io.github.sauranbone.plang.core.error.DefaultErrorHandler;
 import io.github.sauranbone.plang.core.error.LanguageErrorHandler;
+import io.github.sauranbone.plang.core.metrics.MetricsListener;
 import io.github.sauranbone.plang.core.parsing.*;
 import io.github.sauranbone.plang.core.parsing.impl.NormalLexer;
 import io.github.sauranbone.plang.core.parsing.impl.DefaultParser;
@@ -26,9 +27,14 @@ public class Language implements Serializable {
     private final MessageLexer lexer;
     private final MessageParser parser;
     private final MessageTransformer transformer;
-    private LanguageErrorHandler errorHandler;
+    private volatile LanguageErrorHandler errorHandler;
 
-    private MessageRegistry registry;
+    private volatile MessageRegistry registry;
+
+    private volatile boolean lazyParsing;
+
+    //Listeners are not serializable, thus null after deserialization
+    private transient volatile MetricsListener metrics = MetricsListener.NOOP;
 
     /**
      * Allocates a new language having an entire {@code name}, an
@@ -132,7 +138,15 @@ public class Language implements Serializable {
         MessageParser parser = getParser();
         Objects.requireNonNull(lexer, "Lexer");
         Objects.requireNonNull(parser, "Parser");
-        return parser.parse(this, lexer.tokenize(this, content));
+        MetricsListener metrics = getMetrics();
+        if (!metrics.isEnabled()) return parser.parse(this, lexer.tokenize(this, content));
+        long start = System.nanoTime();
+        List<MessageToken> tokens = lexer.tokenize(this, content);
+        long lexed = System.nanoTime();
+        metrics.onLex(this, lexed - start);
+        ParsedTokens parsed = parser.parse(this, tokens);
+        metrics.onParse(this, System.nanoTime() - lexed);
+        return parsed;
     }
 
     /**
@@ -231,6 +245,59 @@ public class Language implements Serializable {
         this.errorHandler = errorHandler;
     }
 
+    /**
+     * Returns the listener that is notified around lexing, parsing,
+     * transforming and looking up messages of this language.
+     *
+     * @return this metrics listener, {@link MetricsListener#NOOP} by
+     * default
+     */
+    public MetricsListener getMetrics() {
+        MetricsListener metrics = this.metrics;
+        return metrics != null ? metrics : MetricsListener.NOOP;
+    }
+
+    /**
+     * Updates the listener that is notified around lexing, parsing,
+     * transforming and looking up messages of this language to the given
+     * {@code metrics}.
+     *
+     * @param metrics the new metrics listener, {@code not null}
+     * @throws NullPointerException if {@code metrics} is null
+     * @see io.github.sauranbone.plang.core.metrics.MetricsRecorder
+     */
+    public final synchronized void setMetrics(MetricsListener metrics) {
+        Objects.requireNonNull(metrics, "Metrics");
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns true if messages of this language are parsed lazily, meaning
+     * on their first use rather than on their allocation.
+     *
+     * @return true if messages are parsed lazily
+     * @see #setLazyParsing(boolean)
+     */
+    public boolean isLazyParsing() {
+        return lazyParsing;
+    }
+
+    /**
+     * Updates whether messages of this language that are allocated from
+     * now on are parsed lazily, meaning on their first use rather than on
+     * their allocation.
+     * <p>Lazy parsing allows large catalogs to be loaded without lexing and
+     * parsing messages that are never transformed, but defers any error of
+     * parsing a message to its first use.
+     *
+     * @param lazyParsing true if messages should be parsed lazily
+     * @see Message#Message(String, Language, boolean)
+     * @see MessageRegistry#setLazyParsing(boolean)
+     */
+    public final synchronized void setLazyParsing(boolean lazyParsing) {
+        this.lazyParsing = lazyParsing;
+    }
+
     /**
      * Returns the messaging registry, containing and keeping all the
      * messages that are accessible in the language's scope.
@@ -238,7 +305,7 @@ public class Language implements Serializable {
      * @return the target registry of this language, {@code not null}
      * @throws NullPointerException if this registry is null
      */
-    public synchronized final MessageRegistry getRegistry() {
+    public final MessageRegistry getRegistry() {
         return Objects.requireNonNull(registry);
     }
 
@@ -6,6 +6,7 @@ import io.github.sauranbone.plang.core.placeholder.Placeholder;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Placeholder lexicon containing all the globally accessible placeholders
@@ -21,6 +22,9 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
 
     private final boolean caseSensitive;
 
+    //Incremented after every mutation of this lexicon
+    private final AtomicInteger revision = new AtomicInteger();
+
     /**
      * Allocates a new lexicon having case insensitivity.
      * <p>When a placeholder is set, it is automatically bound to its own
@@ -51,6 +55,24 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * developer.
      */
     public Lexicon(boolean caseSensitive) {
+        this(caseSensitive, false);
+    }
+
+    /**
+     * Allocates a new lexicon having {@code caseSensitive} as
+     * configuration attribute.
+     * <p>If {@code concurrent} is true, the lexicon is backed by a
+     * concurrent map and placeholders are accessed without any
+     * synchronization, which is recommended for lexicons that are used
+     * by many threads but rarely mutated.
+     *
+     * @param caseSensitive the target sensitivity
+     * @param concurrent    true if this lexicon should be concurrent
+     * @see #Lexicon(boolean)
+     * @see #isConcurrent()
+     */
+    public Lexicon(boolean caseSensitive, boolean concurrent) {
+        super(0, concurrent);
         this.caseSensitive = caseSensitive;
     }
 
@@ -65,6 +87,21 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
         return caseSensitive;
     }
 
+    /**
+     * Returns the concurrent revision of this lexicon, that is incremented
+     * whenever a placeholder is set or removed, or the modifiers of any
+     * placeholder are updated.
+     * <p>Processors that resolve placeholders of this lexicon and their
+     * modifiers ahead of time can compare the revision to determine
+     * whenever their resolution is outdated.
+     *
+     * @return the concurrent revision of this lexicon
+     * @see Placeholder#getModifierRevision()
+     */
+    public int getRevision() {
+        return revision.get() + Placeholder.getModifierRevision();
+    }
+
     /**
      * Returns true if a placeholder with given {@code key} is concurrently
      * bound.
@@ -74,7 +111,7 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * its names
      * @throws NullPointerException if {@code key} is null
      */
-    public synchronized boolean has(String key) {
+    public boolean has(String key) {
         Objects.requireNonNull(key);
         return super.containsKey(key);
     }
@@ -84,11 +121,18 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      *
      * @param placeholder the placeholder to be bind
      */
-    public synchronized void set(Placeholder<?> placeholder) {
+    public void set(Placeholder<?> placeholder) {
         Objects.requireNonNull(placeholder);
         this.set(placeholder.getName(), placeholder);
     }
 
+    @Override
+    protected Lexicon set(String key, Placeholder<?> value) {
+        super.set(key, value);
+        revision.incrementAndGet();
+        return this;
+    }
+
     /**
      * Retrieves the contained placeholder that is having the given
      * {@code name} as its literal name.
@@ -97,7 +141,7 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * @return the target placeholder that is bound at {@code name}
      */
     @Override
-    public synchronized Placeholder<?> get(String name) {
+    public Placeholder<?> get(String name) {
         return super.get(name);
     }
 
@@ -109,8 +153,10 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * @return the placeholder that got removed
      */
     @Override
-    public synchronized Placeholder<?> remove(String name) {
-        return super.remove(name);
+    public Placeholder<?> remove(String name) {
+        Placeholder<?> placeholder = super.remove(name);
+        revision.incrementAndGet();
+        return placeholder;
     }
 
     /**
@@ -119,7 +165,7 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * @return all concurrent placeholders
      */
     @Override
-    public synchronized Collection<Placeholder<?>> values() {
+    public Collection<Placeholder<?>> values() {
         return super.values();
     }
 
@@ -129,7 +175,7 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * @return false if at least one placeholder has been registered
      */
     @Override
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return super.isEmpty();
     }
 
@@ -139,7 +185,7 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * @return the size of this lexicon
      */
     @Override
-    public synchronized int size() {
+    public int size() {
         return super.size();
     }
 
@@ -147,12 +193,13 @@ public final class Lexicon extends HashPlangMap<String, Placeholder<?>> {
      * Clears this lexicon by removing all placeholders.
      */
     @Override
-    public synchronized void clear() {
+    public void clear() {
         super.clear();
+        revision.incrementAndGet();
     }
 
     @Override
-    public synchronized Map<String, Placeholder<?>> getMap() {
+    public Map<String, Placeholder<?>> getMap() {
         return super.getMap();
     }
 
@@ -1,11 +1,18 @@
 package io.github.sauranbone.plang.core.specific;
 
+import io.github.sauranbone.plang.core.map.BinderPool;
 import io.github.sauranbone.plang.core.map.DataBindMap;
 import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.map.KnowledgeBinder;
+import io.github.sauranbone.plang.core.metrics.MetricsListener;
 import io.github.sauranbone.plang.core.parsing.*;
+import io.github.sauranbone.plang.core.parsing.impl.Utf8Transformer;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Message class representing a parsed message containing its content and
@@ -22,13 +29,19 @@ public class Message {
 
     final String content;
 
-    final ParsedTokens tokens;
+    //Published once parsed, null until then if parsed lazily
+    private volatile ParsedTokens tokens;
 
     final Language language;
 
+    //The key this message is registered at, if known
+    private final String key;
+
     /**
      * Allocates a new message having given {@code content} and parses it
-     * directly using the given {@code language} processors.
+     * using the given {@code language} processors, either directly or,
+     * if the language is {@link Language#isLazyParsing() lazy parsing},
+     * on first use.
      *
      * @param content  the target content of this message
      * @param language the target language of this message
@@ -40,11 +53,50 @@ public class Message {
      * @see MessageParser#parse(Language, List)
      */
     public Message(String content, Language language) {
+        this(content, language, Objects.requireNonNull(language, "Language").isLazyParsing());
+    }
+
+    /**
+     * Allocates a new message having given {@code content}, that is parsed
+     * using the given {@code language} processors.
+     * <p>If {@code lazy} is true, the content is not parsed until the
+     * tokens of this message are first requested, which is by the first
+     * transformation at the latest.  The tokens are then parsed only once
+     * and published without locking any later access.
+     *
+     * @param content  the target content of this message
+     * @param language the target language of this message
+     * @param lazy     true if the content should be parsed on first use
+     * @throws NullPointerException if {@code language} is null
+     * @see #getTokens()
+     * @see #isParsed()
+     */
+    public Message(String content, Language language, boolean lazy) {
+        this(null, content, language, lazy);
+    }
+
+    /**
+     * Allocates a new message having given {@code content} and the given
+     * {@code key} it is registered at, that is parsed using the given
+     * {@code language} processors.
+     * <p>The {@code key} is only used to identify this message, such as
+     * in errors that occur while transforming it.
+     *
+     * @param key      the key this message is registered at,
+     *                 {@code nullable}
+     * @param content  the target content of this message
+     * @param language the target language of this message
+     * @param lazy     true if the content should be parsed on first use
+     * @throws NullPointerException if {@code language} is null
+     * @see #getKey()
+     * @see MessageRegistry#createPair(String, String)
+     */
+    public Message(String key, String content, Language language, boolean lazy) {
         Objects.requireNonNull(language, "Language");
+        this.key = key;
         this.content = content;
         this.language = language;
-        this.tokens = parse();
-        Objects.requireNonNull(tokens, "The tokens of a message cannot be null");
+        if (!lazy) this.tokens = prepare(parse());
     }
 
     /**
@@ -54,15 +106,42 @@ public class Message {
      * <p>This language's {@link MessageTransformer transformer} is used,
      * and thus its {@code transform} is the method that is automatically
      * invoked given this attributes.
-     * <p>This method is equivalent to the following code:
+     * <p>This method is equivalent to the following code, but reuses an
+     * empty binder of the {@link BinderPool#MAPS shared pool}:
      * <pre><code>
      *      String str = transform(new DataBindMap());
      * </code></pre>
      *
      * @see #transform(DataBinder)
      */
-    public synchronized String transform() {
-        return transform(new DataBindMap());
+    public String transform() {
+        return transformWith(null);
+    }
+
+    /**
+     * Transforms this message using a binder of the
+     * {@link BinderPool#MAPS shared pool}, that is populated by the given
+     * {@code binding} and released again after the transformation.
+     * <p>This allows a message to be transformed using named or typed
+     * boundaries without allocating a new binder on every call:
+     * <pre><code>
+     *      String str = transformWith(data -> data.bind("userName", name));
+     * </code></pre>
+     *
+     * @param binding the consumer binding the values, {@code nullable}
+     * @return the resulting and live transformed string
+     * @see #transform(DataBinder)
+     * @see BinderPool
+     */
+    public String transformWith(Consumer<? super DataBindMap> binding) {
+        final BinderPool<DataBindMap> pool = BinderPool.MAPS;
+        DataBindMap data = pool.acquire();
+        try {
+            if (binding != null) binding.accept(data);
+            return transform(data);
+        } finally {
+            pool.release(data);
+        }
     }
 
     /**
@@ -78,6 +157,10 @@ public class Message {
      * <p>This language's {@link MessageTransformer transformer} is used,
      * and thus its {@code transform} is the method that is automatically
      * invoked given this attributes.
+     * <p>This language and message are visible to the transformer as type
+     * boundaries, unless {@code data} binds these types itself.  The given
+     * {@code data} is never mutated, thus this method can be invoked
+     * concurrently, even using the same {@code data}.
      *
      * @param data the target binding information
      * @return the resulting and live transformed string
@@ -88,13 +171,138 @@ public class Message {
      * @see MessageTransformer#transform(ParsedTokens, Language, String,
      * DataBinder)
      */
-    public synchronized String transform(DataBinder data) {
+    public String transform(DataBinder data) {
+        return transform(data, null, (message, transformer, tokens, knowledge, target) ->
+                transformer.transform(tokens, message.language, message.content, knowledge));
+    }
+
+    /**
+     * Transforms this message like {@link #transform(DataBinder)}, but
+     * appends the result to the given {@code builder} instead of
+     * returning a new string.
+     *
+     * @param data    the target binding information
+     * @param builder the target builder to append to
+     * @return the given {@code builder}
+     * @throws NullPointerException if any argument or this language's
+     *                              transformer is null
+     * @see MessageTransformer#transform(ParsedTokens, Language, String,
+     * DataBinder, StringBuilder)
+     */
+    public StringBuilder transform(DataBinder data, StringBuilder builder) {
+        return transform(data, builder, (message, transformer, tokens, knowledge, target) ->
+                transformer.transform(tokens, message.language, message.content, knowledge, target));
+    }
+
+    /**
+     * Transforms this message like {@link #transform(DataBinder)}, but
+     * appends the result to the given {@code out}, such as a
+     * {@link java.io.Writer}, instead of returning a new string.
+     *
+     * @param data the target binding information
+     * @param out  the target to append to
+     * @param <A>  the type of {@code out}
+     * @return the given {@code out}
+     * @throws NullPointerException if any argument or this language's
+     *                              transformer is null
+     * @throws IOException          if {@code out} throws an I/O error
+     * @see MessageTransformer#transform(ParsedTokens, Language, String,
+     * DataBinder, Appendable)
+     */
+    public <A extends Appendable> A transform(DataBinder data, A out) throws IOException {
+        return transform(data, out, (message, transformer, tokens, knowledge, target) ->
+                transformer.transform(tokens, message.language, message.content, knowledge, target));
+    }
+
+    /**
+     * Transforms this message like {@link #transform(DataBinder)}, but
+     * puts the UTF-8 encoded result into the given {@code sink}.
+     * <p>If this language's transformer is a {@link Utf8Transformer}, the
+     * message is rendered directly into bytes, otherwise the transformed
+     * string is encoded.
+     *
+     * @param data the target binding information
+     * @param sink the target sink to put the bytes into
+     * @return the given {@code sink}
+     * @throws NullPointerException if any argument or this language's
+     *                              transformer is null
+     * @see Utf8Transformer
+     */
+    public ByteSink transform(DataBinder data, ByteSink sink) {
+        Objects.requireNonNull(sink, "Sink");
+        return transform(data, sink, (message, transformer, tokens, knowledge, target) -> {
+            if (transformer instanceof Utf8Transformer) {
+                return ((Utf8Transformer) transformer).transform(tokens, message.language,
+                        message.content, knowledge, target);
+            }
+            return target.putUtf8(transformer.transform(tokens, message.language, message.content, knowledge));
+        });
+    }
+
+    /**
+     * Transforms this message like {@link #transform(DataBinder)}, but
+     * puts the UTF-8 encoded result into the given {@code out} buffer.
+     * <p>If this language's transformer is a {@link Utf8Transformer}, the
+     * message is rendered directly into bytes, otherwise the transformed
+     * string is encoded.
+     *
+     * @param data the target binding information
+     * @param out  the target buffer to put the bytes into
+     * @return the given {@code out}
+     * @throws NullPointerException             if any argument or this
+     *                                          language's transformer is
+     *                                          null
+     * @throws java.nio.BufferOverflowException if {@code out} has not
+     *                                          enough remaining space
+     * @see Utf8Transformer
+     */
+    public ByteBuffer transform(DataBinder data, ByteBuffer out) {
+        Objects.requireNonNull(out, "Out");
+        return transform(data, out, (message, transformer, tokens, knowledge, target) -> {
+            if (transformer instanceof Utf8Transformer) {
+                return ((Utf8Transformer) transformer).transform(tokens, message.language,
+                        message.content, knowledge, target);
+            }
+            ByteSink.encodeUtf8(transformer.transform(tokens, message.language, message.content, knowledge), target);
+            return target;
+        });
+    }
+
+    /**
+     * Transforms this message into the given {@code target} using the
+     * given {@code step}, which is the only part differing between the
+     * transform methods.
+     * <p>The knowledge view of {@code data} is taken from and released
+     * back to its pool, and the transformation is timed if the metrics
+     * listener of this language is enabled.
+     *
+     * @param data   the target binding information
+     * @param target the target to render into, {@code nullable}
+     * @param step   the step rendering into {@code target}
+     * @param <T>    the type of {@code target}
+     * @param <R>    the type of the result
+     * @param <X>    the type of exception thrown by {@code step}
+     * @return the result of {@code step}
+     * @throws X                    if {@code step} throws
+     * @throws NullPointerException if {@code data} or this language's
+     *                              transformer is null
+     */
+    private <T, R, X extends Exception> R transform(DataBinder data, T target, Step<T, R, X> step) throws X {
         Objects.requireNonNull(data);
-        //Automatically bind all available types
-        bindKnowledge(data);
         MessageTransformer transformer = language.getTransformer();
         Objects.requireNonNull(transformer);    //Nullcheck for safety
-        return transformer.transform(tokens, language, content, data);
+        ParsedTokens tokens = getTokens();
+        MetricsListener metrics = language.getMetrics();
+        final boolean timed = metrics.isEnabled();
+        final long start = timed ? System.nanoTime() : 0L;
+        KnowledgeBinder knowledge = withKnowledge(data);
+        try {
+            R result = step.render(this, transformer, tokens, knowledge, target);
+            if (timed) metrics.onTransform(this, System.nanoTime() - start);
+            return result;
+        } finally {
+            releaseKnowledge(knowledge);
+        }
     }
 
     /**
@@ -107,14 +315,54 @@ public class Message {
     }
 
     /**
-     * Returns the parsed tokens of this message
+     * Returns the key this message is registered at, if known.
+     *
+     * @return the key of this message, {@code nullable}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the parsed tokens of this message, parsing them first if
+     * this message is parsed lazily and has not been parsed yet.
      *
      * @return the parsed tokens
+     * @throws NullPointerException if the parsed tokens are null
      */
     public ParsedTokens getTokens() {
+        ParsedTokens tokens = this.tokens;
+        if (tokens != null) return tokens;
+        synchronized (this) {
+            //Double-checked, so that the content is only parsed once
+            if ((tokens = this.tokens) == null)
+                this.tokens = tokens = prepare(parse());
+        }
         return tokens;
     }
 
+    /**
+     * Returns true if the content of this message has already been parsed.
+     *
+     * @return false if this message is parsed lazily and not used yet
+     */
+    public boolean isParsed() {
+        return tokens != null;
+    }
+
+    /**
+     * Returns the compiled form of this message's tokens, whose
+     * placeholders are resolved within this language's lexicon.
+     * <p>The compiled form is cached and only recompiled whenever the
+     * lexicon of this language has been mutated.
+     *
+     * @return the compiled message, {@code not null}
+     * @see CompiledMessage#of(ParsedTokens, Language)
+     */
+    public CompiledMessage compile() {
+        return CompiledMessage.of(getTokens(), language);
+    }
+
     /**
      * Returns the language of this message.
      *
@@ -131,6 +379,40 @@ public class Message {
         return language.parse(content);
     }
 
+    private ParsedTokens prepare(ParsedTokens tokens) {
+        Objects.requireNonNull(tokens, "The tokens of a message cannot be null");
+        //Carry the key into errors concerning this message
+        return tokens.withKey(key);
+    }
+
+    /**
+     * Returns a read-only view of the given {@code data}, that additionally
+     * contains the default types that are known at time of execution about
+     * this message or language, if not bound in {@code data} already.
+     * <p>The view is acquired from the {@link BinderPool#KNOWLEDGE pool}
+     * and must be released using {@link #releaseKnowledge(KnowledgeBinder)}
+     * once the transformation is done.
+     *
+     * @param data the target data to add the knowledge to
+     * @return the view containing {@code data} and the knowledge
+     * @throws NullPointerException if {@code data} is null
+     * @see KnowledgeBinder
+     */
+    protected KnowledgeBinder withKnowledge(DataBinder data) {
+        return BinderPool.KNOWLEDGE.acquire().attach(data, language, this);
+    }
+
+    /**
+     * Releases the given {@code knowledge} view, that has been returned by
+     * {@link #withKnowledge(DataBinder)}, back to its pool.
+     *
+     * @param knowledge the view to be released
+     * @throws NullPointerException if {@code knowledge} is null
+     */
+    protected void releaseKnowledge(KnowledgeBinder knowledge) {
+        BinderPool.KNOWLEDGE.release(knowledge);
+    }
+
     /**
      * Binds default types that are known at type of execution about this
      * message or language to the given {@code data}, if not bound
@@ -138,10 +420,32 @@ public class Message {
      *
      * @param data the target data to bind to
      * @throws NullPointerException if {@code data} is null
+     * @deprecated mutates the caller's binder and is no longer used by
+     * {@link #transform(DataBinder)}, use {@link #withKnowledge(DataBinder)}
+     * instead
      */
+    @Deprecated
     protected void bindKnowledge(DataBinder data) {
         Objects.requireNonNull(data);
         if (!data.isTypeBound(language)) data.bindType(language);
         if (!data.isTypeBound(this)) data.bindType(this);
     }
+
+    /**
+     * Step of a transformation rendering a message into a target, that is
+     * not capturing anything, so that it is never allocated.
+     *
+     * @param <T> the type of the target
+     * @param <R> the type of the result
+     * @param <X> the type of exception thrown
+     * @see #transform(DataBinder, Object, Step)
+     */
+    @FunctionalInterface
+    private interface Step<T, R, X extends Exception> {
+
+        R render(Message message, MessageTransformer transformer, ParsedTokens tokens,
+                 KnowledgeBinder knowledge, T target) throws X;
+
+    }
+
 }
@@ -2,11 +2,14 @@ package io.github.sauranbone.plang.core.specific;
 
 import io.github.sauranbone.plang.core.exception.MessageNotFoundException;
 import io.github.sauranbone.plang.core.map.HashPlangMap;
+import io.github.sauranbone.plang.core.metrics.MetricsListener;
 import org.apache.commons.lang3.Validate;
 
 import java.io.Serializable;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
@@ -18,6 +21,11 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
 
     private final Language signature;
 
+    private volatile boolean lazyParsing;
+
+    //Incremented after every message that is bound to this registry
+    private final AtomicInteger revision = new AtomicInteger();
+
     /**
      * Allocates a new message registry having no initial values.
      *
@@ -35,7 +43,36 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * @param initialCapacity the initial capacity of this map
      */
     public MessageRegistry(Language signature, int initialCapacity) {
-        super(initialCapacity);
+        this(signature, initialCapacity, false);
+    }
+
+    /**
+     * Allocates a new message registry having no initial values.
+     * <p>If {@code concurrent} is true, the registry is backed by a
+     * concurrent map and messages are accessed without any
+     * synchronization, which is recommended for registries that are used
+     * by many threads but rarely mutated.
+     *
+     * @param signature  the target language of this registry
+     * @param concurrent true if this registry should be concurrent
+     * @see #isConcurrent()
+     * @see Language#setContent(MessageRegistry)
+     */
+    public MessageRegistry(Language signature, boolean concurrent) {
+        this(signature, 0, concurrent);
+    }
+
+    /**
+     * Allocates a new message registry having the given
+     * {@code initialCapacity}.
+     *
+     * @param signature       the target language of this registry
+     * @param initialCapacity the initial capacity of this map
+     * @param concurrent      true if this registry should be concurrent
+     * @see #isConcurrent()
+     */
+    public MessageRegistry(Language signature, int initialCapacity, boolean concurrent) {
+        super(initialCapacity, concurrent);
         Objects.requireNonNull(signature, "Language");
         this.signature = signature;
     }
@@ -58,6 +95,8 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
     /**
      * Allocates a new pair instance having given {@code index} as its key
      * name and {@code content} as its message content.
+     * <p>The message is parsed lazily if either this registry or its
+     * language is lazy parsing.
      *
      * @param index   the target key index name
      * @param content the target content of the message
@@ -68,7 +107,7 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * implementation is different compared to the normal plain message.
      */
     public MessagePair createPair(String index, String content) {
-        return new MessagePair(index, new Message(content, signature));
+        return new MessagePair(index, new Message(index, content, signature, isLazyParsing()));
     }
 
     /**
@@ -82,7 +121,7 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * @throws NullPointerException     if {@code pair}, its key or message
      *                                  is null
      */
-    public synchronized void set(MessagePair pair) {
+    public void set(MessagePair pair) {
         Objects.requireNonNull(pair);
         String index = Objects.requireNonNull(pair.getKey());
         Message message = Objects.requireNonNull(pair.getMessage());
@@ -103,13 +142,92 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * @see #createPair(String, String)
      * @see #set(MessagePair)
      */
-    public synchronized MessagePair set(String index, String content) {
+    public MessagePair set(String index, String content) {
         MessagePair pair = createPair(index, content);
         Objects.requireNonNull(pair, "Allocated pair");
         set(pair.getKey(), pair.getMessage());
         return pair;
     }
 
+    /**
+     * Allocates a new pair for every entry of the given {@code contents},
+     * having the entry's key as key index name and its value as message
+     * content, and binds all of them into this registry in one step.
+     * <p>The pairs are allocated, and thus their messages parsed, in
+     * parallel on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param contents the target contents mapped by their key index name
+     * @return the newly allocated message pairs, {@code not null}
+     * @throws NullPointerException     if {@code contents} or any key
+     *                                  contained is null
+     * @throws IllegalArgumentException if any key contained is empty
+     * @see #setAll(Map, ForkJoinPool)
+     */
+    public List<MessagePair> setAll(Map<String, String> contents) {
+        return setAll(contents, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Allocates a new pair for every entry of the given {@code contents},
+     * having the entry's key as key index name and its value as message
+     * content, and binds all of them into this registry in one step.
+     * <p>The pairs are allocated using {@link #createPair(String, String)}
+     * and thus their messages lexed and parsed in parallel on the given
+     * {@code pool}.  No pair is bound until every pair has been allocated,
+     * so that if any allocation fails, this registry remains unchanged.
+     * <p>The processors of this registry's language must thus be
+     * thread-safe, which the default processors are.
+     *
+     * @param contents the target contents mapped by their key index name
+     * @param pool     the target pool to allocate the pairs on
+     * @return the newly allocated message pairs, {@code not null}
+     * @throws NullPointerException     if any argument or any key
+     *                                  contained in {@code contents} is
+     *                                  null
+     * @throws IllegalArgumentException if any key contained is empty
+     * @see #createPair(String, String)
+     */
+    public List<MessagePair> setAll(Map<String, String> contents, ForkJoinPool pool) {
+        Objects.requireNonNull(contents, "Contents");
+        Objects.requireNonNull(pool, "Pool");
+        List<Map.Entry<String, String>> entries = new ArrayList<>(contents.entrySet());
+        MessagePair[] pairs = new MessagePair[entries.size()];
+        if (pairs.length > 0) pool.invoke(new PairAction(entries, pairs, 0, pairs.length));
+        Map<String, Message> messages = new HashMap<>(Math.max((int) (pairs.length / .75f) + 1, 16));
+        for (MessagePair pair : pairs) {
+            messages.put(pair.getKey(), pair.getMessage());
+        }
+        putAll(messages);
+        return Arrays.asList(pairs);
+    }
+
+    @Override
+    protected MessageRegistry set(String key, Message value) {
+        super.set(key, value);
+        revision.incrementAndGet();
+        return this;
+    }
+
+    @Override
+    protected MessageRegistry putAll(Map<? extends String, ? extends Message> values) {
+        super.putAll(values);
+        revision.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * Returns the concurrent revision of this registry, that is
+     * incremented whenever a message is bound.
+     * <p>Lookups that memoize which registry holds a key can compare the
+     * revision to determine whenever a message may have been added.
+     *
+     * @return the concurrent revision of this registry
+     * @see FallbackChain
+     */
+    public int getRevision() {
+        return revision.get();
+    }
+
     /**
      * Returns the message value which key index is equal to the given
      * {@code index} index, otherwise calls {@code def} and returns the
@@ -127,9 +245,9 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * @see #set(MessagePair)
      * @see #set(String, String)
      */
-    public synchronized Message get(String index, Supplier<? extends Message> def) {
+    public Message get(String index, Supplier<? extends Message> def) {
         Message message;
-        if ((message = super.get(index)) == null) {
+        if ((message = lookup(index)) == null) {
             if (def != null) return def.get();
             //Throw exception as default consumer is null
             throw new MessageNotFoundException(index, this);
@@ -137,6 +255,23 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
         return message;
     }
 
+    /**
+     * Returns the message value which key index is equal to the given
+     * {@code index} index, or an empty optional if the {@code index}
+     * cannot be resolved.
+     * <p>Unlike {@link #get(String)}, a missing message does not allocate
+     * any exception, which makes this method preferable whenever missing
+     * messages are expected, such as in partially translated languages.
+     *
+     * @param index the target key to be retrieved
+     * @return the optional message that is bound at {@code index}
+     * @throws NullPointerException if {@code index} is null
+     * @see FallbackChain
+     */
+    public Optional<Message> find(String index) {
+        return Optional.ofNullable(lookup(index));
+    }
+
     /**
      * Returns the message value which key index is equal to the given
      * {@code index} index.
@@ -151,10 +286,36 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
      * @see #get(String, Supplier)
      */
     @Override
-    public synchronized Message get(String index) {
+    public Message get(String index) {
         return get(index, null);
     }
 
+    /**
+     * Returns true if messages created by this registry are parsed lazily,
+     * either because this registry or its language is lazy parsing.
+     *
+     * @return true if created messages are parsed on first use
+     * @see #setLazyParsing(boolean)
+     * @see Language#isLazyParsing()
+     */
+    public boolean isLazyParsing() {
+        return lazyParsing || signature.isLazyParsing();
+    }
+
+    /**
+     * Updates whether messages created by this registry from now on are
+     * parsed lazily, regardless of the configuration of its language.
+     * <p>This allows a large catalog to be loaded without parsing every
+     * message, most of which are never transformed.
+     *
+     * @param lazyParsing true if created messages should be parsed lazily
+     * @see #createPair(String, String)
+     * @see Language#setLazyParsing(boolean)
+     */
+    public void setLazyParsing(boolean lazyParsing) {
+        this.lazyParsing = lazyParsing;
+    }
+
     /**
      * Returns the language this registry is bound to.
      *
@@ -175,6 +336,23 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
         return Language.getIdentifier(signature);
     }
 
+    /**
+     * Returns the message bound to the given {@code index}, notifying the
+     * metrics listener of this signature about the lookup.
+     *
+     * @param index the target key to be retrieved
+     * @return the target message, {@code nullable} if not bound
+     * @see Language#getMetrics()
+     */
+    private Message lookup(String index) {
+        MetricsListener metrics = signature.getMetrics();
+        if (!metrics.isEnabled()) return super.get(index);
+        long start = System.nanoTime();
+        Message message = super.get(index);
+        metrics.onLookup(signature, index, message != null, System.nanoTime() - start);
+        return message;
+    }
+
     protected final void checkLangEqual(Language lang) {
         Validate.isTrue(this.signature.isEqual(lang),
                 "Language identifier (\"" + Language.getIdentifier(lang)
@@ -184,7 +362,46 @@ public class MessageRegistry extends HashPlangMap<String, Message> implements Se
     }
 
     @Override
-    public synchronized Map<String, Message> getMap() {
+    public Map<String, Message> getMap() {
         return super.getMap();
     }
+
+    /**
+     * Recursive action allocating the pairs of a range of entries, that
+     * splits its range until it is small enough to be allocated directly.
+     */
+    private final class PairAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        //The maximum amount of entries allocated by a single action
+        private static final int THRESHOLD = 64;
+
+        private final List<Map.Entry<String, String>> entries;
+        private final MessagePair[] pairs;
+        private final int begin, end;
+
+        PairAction(List<Map.Entry<String, String>> entries, MessagePair[] pairs, int begin, int end) {
+            this.entries = entries;
+            this.pairs = pairs;
+            this.begin = begin;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - begin <= THRESHOLD) {
+                for (int i = begin; i < end; i++) {
+                    Map.Entry<String, String> entry = entries.get(i);
+                    MessagePair pair = createPair(entry.getKey(), entry.getValue());
+                    pairs[i] = Objects.requireNonNull(pair, "Allocated pair");
+                }
+                return;
+            }
+            int midst = (begin + end) >>> 1;
+            invokeAll(new PairAction(entries, pairs, begin, midst),
+                    new PairAction(entries, pairs, midst, end));
+        }
+    }
+
 }
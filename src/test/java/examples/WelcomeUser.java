@@ -10,8 +10,6 @@ import io.github.sauranbone.plang.core.specific.Lexicon;
 import io.github.sauranbone.plang.core.specific.Message;
 import io.github.sauranbone.plang.core.specific.MessageRegistry;
 
-import javax.jws.soap.SOAPBinding;
-
 /**
  * @author Vinzent Zeband
  * @version 15:00 CET, 23.02.2022
@@ -5,6 +5,10 @@ import static org.junit.Assert.*;
 import io.github.sauranbone.plang.core.PlangUtils;
 import org.junit.Test;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Vinzent Zeband
  * @version 06:13 CET, 13.02.2022
@@ -25,4 +29,19 @@ public class PlangUtilsTest {
         }
     }
 
+    @Test
+    public void testTypes() {
+        assertEquals(Number.class, PlangUtils.getTopSuperclass(Integer.class));
+        assertEquals(Object.class, PlangUtils.getTopSuperclass(Object.class));
+        assertNull(PlangUtils.getTopSuperclass(null));
+        List<Class<?>> types = PlangUtils.getAssignableTypes(Integer.class);
+        assertEquals(Integer.class, types.get(0));
+        assertEquals(Number.class, types.get(1));
+        assertTrue(types.contains(Comparable.class));
+        assertTrue(types.contains(Serializable.class));
+        assertFalse(types.contains(Object.class));
+        assertSame(types, PlangUtils.getAssignableTypes(Integer.class));
+        assertTrue(PlangUtils.getAssignableTypes(ArrayList.class).contains(Iterable.class));
+    }
+
 }
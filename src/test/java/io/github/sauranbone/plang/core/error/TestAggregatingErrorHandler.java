@@ -0,0 +1,93 @@
+package io.github.sauranbone.plang.core.error;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent
+ * @version 16:22 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestAggregatingErrorHandler {
+
+    @Test
+    public void aggregate() {
+        List<AggregatingErrorHandler.Summary> reported = new ArrayList<>();
+        AggregatingErrorHandler errors = new AggregatingErrorHandler(reported::addAll);
+        Language language = new Language("Test", "test");
+        language.setErrorHandler(errors.forLanguage(language));
+        assertSame(language.getErrorHandler(), errors.forLanguage(language));
+        Message message = new Message("Hello {user}!", language);
+        IntStream.range(0, 1000).parallel().forEach(i -> message.transform());
+        errors.handle(new ParseError(ParseErrorType.WARNING, "unattributed"));
+        //Dynamic notification, unbound warnings and unattributed warning
+        assertEquals(3, errors.report().size());
+        AggregatingErrorHandler.Summary summary = reported.stream()
+                .filter(s -> s.getLanguage() == language && s.getErrorType() == ParseErrorType.WARNING)
+                .findFirst().orElse(null);
+        assertNotNull(summary);
+        assertEquals("user", summary.getPlaceholder());
+        assertEquals(1000, summary.getCount());
+        assertTrue(reported.stream().anyMatch(s -> s.getLanguage() == null && s.getPlaceholder() == null));
+        assertTrue(errors.drain().isEmpty());
+        message.transform();
+        assertEquals(1, errors.drain().size());
+    }
+
+    @Test
+    public void concurrent() throws Exception {
+        AggregatingErrorHandler errors = new AggregatingErrorHandler(s -> { });
+        final int threads = 4, iterations = 100_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < iterations; i++)
+                        errors.handle(ParseError.unbound("p" + (i & 7), 0, null));
+                }));
+            }
+            //Drain concurrently, so that no counted error is ever lost
+            long counted = 0;
+            while (!futures.stream().allMatch(Future::isDone)) {
+                for (AggregatingErrorHandler.Summary summary : errors.drain())
+                    counted += summary.getCount();
+            }
+            for (Future<?> future : futures) future.get();
+            for (AggregatingErrorHandler.Summary summary : errors.drain())
+                counted += summary.getCount();
+            assertEquals((long) threads * iterations, counted);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void limit() {
+        AggregatingErrorHandler errors = new AggregatingErrorHandler(s -> { });
+        final int n = AggregatingErrorHandler.MAX_PLACEHOLDERS + 10;
+        for (int i = 0; i < n; i++) errors.handle(ParseError.unbound("p" + i, 0, null));
+        List<AggregatingErrorHandler.Summary> summaries = errors.drain();
+        assertEquals(AggregatingErrorHandler.MAX_PLACEHOLDERS + 1, summaries.size());
+        //Placeholders beyond the limit are counted as unattributed
+        assertEquals(10, summaries.stream().filter(s -> s.getPlaceholder() == null)
+                .mapToLong(AggregatingErrorHandler.Summary::getCount).sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void breaking() {
+        new AggregatingErrorHandler(s -> { }).handle(new ParseError(ParseErrorType.FATAL, "fatal"));
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.github.sauranbone.plang.core.factory;
+
+import io.github.sauranbone.plang.core.specific.Language;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * @author agent
+ * @version 16:19 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestLanguageResolver {
+
+    @Test
+    public void resolve() {
+        LocalisationFactory factory = new LocalisationFactory(true);
+        Language english = factory.getOrCreate("English", "en");
+        Language german = factory.getOrCreate("German", "de");
+        Language austrian = factory.getOrCreate("Austrian", "de-at");
+        LanguageResolver resolver = new LanguageResolver(factory, english);
+        assertEquals(Arrays.asList("fr-CA", "fr", "de-CH", "de", "en"),
+                resolver.getFallbackChain("en;q=0.5, de-CH;q=0.8, fr-CA, *;q=0.1"));
+        assertSame(german, resolver.resolve("fr-CA, de-CH;q=0.8, en;q=0.5"));
+        assertSame(austrian, resolver.resolve("de-AT,de;q=0.9"));
+        assertSame(austrian, resolver.resolve(new Locale("de", "AT")));
+        assertSame(german, resolver.resolve(Locale.GERMANY));
+        assertSame(english, resolver.resolve("ja-JP"));
+        assertSame(english, resolver.resolve((String) null));
+        assertSame(english, resolver.resolve("de;q=0"));
+        //Cached resolutions must be invalidated on mutations
+        Language japanese = factory.getOrCreate("Japanese", "ja");
+        assertSame(english, resolver.resolve("ja-JP"));
+        resolver.invalidate();
+        assertSame(japanese, resolver.resolve("ja-JP"));
+    }
+
+}
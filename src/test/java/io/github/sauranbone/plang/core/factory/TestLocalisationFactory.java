@@ -0,0 +1,64 @@
+package io.github.sauranbone.plang.core.factory;
+
+import io.github.sauranbone.plang.core.exception.LanguageNotFoundException;
+import io.github.sauranbone.plang.core.specific.Language;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent
+ * @version 16:17 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestLocalisationFactory {
+
+    @Test
+    public void indices() {
+        LocalisationFactory factory = new LocalisationFactory(true);
+        Language english = factory.getOrCreate("English", "en");
+        Language british = factory.getOrCreate("British", "en");
+        Language german = factory.getOrCreate("German", "de");
+        assertSame(english, factory.getByAbbreviation("en"));
+        assertSame(german, factory.getById("German/de"));
+        assertSame(german, factory.getByName("german"));
+        assertEquals(Arrays.asList(english, british), factory.findByAbbreviation("en"));
+        assertTrue(factory.findByAbbreviation("fr").isEmpty());
+        assertNull(factory.getByAbbreviation("fr", null));
+        //Replacing a language re-indexes it
+        Language germany = new Language("German", "de-DE");
+        factory.set(germany);
+        assertNull(factory.getByAbbreviation("de", null));
+        assertSame(germany, factory.getByAbbreviation("de-DE"));
+        assertTrue(factory.unsetByAbbreviation("en"));
+        assertFalse(factory.unsetByAbbreviation("en"));
+        assertEquals(1, factory.size());
+        assertTrue(factory.unsetById("German/de-DE"));
+        assertTrue(factory.isEmpty());
+        assertNull(factory.getById("German/de-DE", null));
+    }
+
+    @Test
+    public void getOrCreate() {
+        LocalisationFactory factory = new LocalisationFactory(true);
+        AtomicInteger created = new AtomicInteger();
+        assertEquals(1, IntStream.range(0, 256).parallel()
+                .mapToObj(i -> factory.getOrCreate(i % 2 == 0 ? "english" : "ENGLISH", name -> {
+                    created.incrementAndGet();
+                    return new Language("English", "en");
+                })).distinct().count());
+        assertEquals(1, created.get());
+        assertSame(factory.getByName("English"), factory.getOrCreate("English", "other"));
+    }
+
+    @Test(expected = LanguageNotFoundException.class)
+    public void notFound() {
+        new LocalisationFactory().getByName("Unknown");
+    }
+
+}
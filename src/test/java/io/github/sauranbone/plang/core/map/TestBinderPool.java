@@ -0,0 +1,54 @@
+package io.github.sauranbone.plang.core.map;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:05 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestBinderPool {
+
+    @Test
+    public void reuse() {
+        BinderPool<DataBindMap> pool = new BinderPool<>(DataBindMap::new, 1);
+        DataBindMap outer = pool.acquire();
+        outer.bind(0, "a");
+        outer.bind("name", "b");
+        DataBindMap inner = pool.acquire();
+        assertNotSame(outer, inner);
+        pool.release(inner);
+        pool.release(outer);
+        assertTrue(outer.isEmpty());
+        assertEquals(-1, outer.getHighestIndex());
+        assertSame(inner, pool.acquire());
+        assertNotSame(outer, pool.acquire());
+    }
+
+    @Test
+    public void transform() {
+        Language language = new Language("Test", "test");
+        Message message = new Message("Hello {name}!", language);
+        assertEquals("Hello world!", message.transformWith(data -> data.bind("name", "world")));
+        DataBindMap reused = BinderPool.MAPS.acquire();
+        assertTrue(reused.isEmpty());
+        BinderPool.MAPS.release(reused);
+        assertThrows(NullPointerException.class, () -> message.transform(null));
+    }
+
+    @Test
+    public void knowledge() {
+        Language language = new Language("Test", "test");
+        Message message = new Message("{0}", language);
+        KnowledgeBinder knowledge = BinderPool.KNOWLEDGE.acquire();
+        BinderPool.KNOWLEDGE.release(knowledge);
+        assertEquals("a", message.transform(DataBindMap.index("a")));
+        assertNull(knowledge.getData());
+        assertSame(knowledge, BinderPool.KNOWLEDGE.acquire());
+    }
+
+}
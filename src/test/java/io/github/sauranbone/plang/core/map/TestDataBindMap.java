@@ -0,0 +1,55 @@
+package io.github.sauranbone.plang.core.map;
+
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:06 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestDataBindMap {
+
+    @Test
+    public void lookup() {
+        DataBindMap data = new DataBindMap();
+        data.bind("UserName", "alice");
+        data.bind(2, "two");
+        data.bindType(Integer.valueOf(5));
+        assertEquals("alice", data.lookup("username"));
+        assertNull(data.lookup("UserName"));
+        assertEquals("two", data.lookup(2));
+        assertEquals(5, data.lookup(Number.class));
+        assertNull(data.lookup(Integer.class));
+        DataBindMap sensitive = new DataBindMap(true);
+        sensitive.bind("UserName", "bob");
+        assertEquals("bob", sensitive.lookup("UserName"));
+        assertNull(sensitive.lookup("username"));
+    }
+
+    @Test
+    public void hierarchical() {
+        DataBindMap data = DataBindMap.typesHierarchical(5);
+        assertTrue(data.isHierarchical());
+        assertEquals(5, data.lookup(Integer.class));
+        assertEquals(5, data.lookup(Number.class));
+        assertEquals(5, data.lookup(Comparable.class));
+        assertTrue(data.unbind(Integer.class));
+        assertTrue(data.isEmpty());
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("text", CharSequence.class, CharSequence::length));
+        lexicon.set(Placeholder.of("int", Integer.class, i -> i * 2));
+        Language language = new Language("Test", "test", lexicon);
+        language.setErrorHandler(error -> { });
+        Message message = new Message("{text} {int}", language);
+        assertEquals("5 {int}", message.transform(DataBindMap.typesHierarchical("hello")));
+        assertEquals("{text} {int}", message.transform(DataBindMap.types("hello", 2L)));
+        assertEquals("{text} 4", message.transform(DataBindMap.types(2)));
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.github.sauranbone.plang.core.map;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:03 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestIndexedDataBinder {
+
+    @Test
+    public void bind() {
+        IndexedDataBinder data = IndexedDataBinder.of("a", null, "c");
+        assertEquals(2, data.size());
+        assertEquals(2, data.getHighestIndex());
+        assertTrue(data.isBound(0));
+        assertFalse(data.isBound(1));
+        assertFalse(data.isBound(7));
+        assertEquals("c", data.get((Object) 2L));
+        assertSame(data, data.append("d"));
+        assertEquals("d", data.get(3));
+        data.bind(10, "k");
+        assertEquals(10, data.getHighestIndex());
+        assertTrue(data.unbind(10));
+        assertEquals(3, data.getHighestIndex());
+        assertFalse(data.isBound("a"));
+        assertThrows(UnsupportedOperationException.class, () -> data.bind("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> data.push("e"));
+        assertThrows(IndexOutOfBoundsException.class, () -> data.bind(-1, "b"));
+    }
+
+    @Test
+    public void transform() {
+        Language language = new Language("Test", "test");
+        language.setErrorHandler(error -> { });
+        Message message = new Message("{a} and {b}, {c}!", language);
+        assertEquals(message.transform(DataBindMap.index("x", "y", "z")),
+                message.transform(IndexedDataBinder.of("x", "y", "z")));
+        assertEquals("x and {b}, z!", message.transform(IndexedDataBinder.of("x", null, "z")));
+    }
+
+}
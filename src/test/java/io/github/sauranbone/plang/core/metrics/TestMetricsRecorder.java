@@ -0,0 +1,74 @@
+package io.github.sauranbone.plang.core.metrics;
+
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Message;
+import io.github.sauranbone.plang.core.specific.MessageRegistry;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * @author agent
+ * @version 16:29 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestMetricsRecorder {
+
+    @Test
+    public void record() {
+        MetricsRecorder recorder = new MetricsRecorder(true);
+        Language language = new Language("Test", "test");
+        assertSame(MetricsListener.NOOP, language.getMetrics());
+        language.setMetrics(recorder);
+        MessageRegistry registry = language.getRegistry();
+        registry.set("greeting", "Hello {name}!");
+        registry.set("farewell", "Goodbye!");
+        for (int i = 0; i < 10; i++)
+            registry.get("greeting").transformWith(data -> data.bind("name", "world"));
+        registry.get("farewell").transform();
+        assertFalse(registry.find("missing").isPresent());
+
+        MetricsRecorder.LanguageMetrics metrics = recorder.getMetrics(language);
+        assertNotNull(metrics);
+        assertEquals(2, metrics.getLexLatency().getCount());
+        assertEquals(2, metrics.getParseLatency().getCount());
+        assertEquals(11, metrics.getTransformLatency().getCount());
+        assertEquals(12, metrics.getLookupLatency().getCount());
+        assertEquals(1, metrics.getMisses());
+        assertEquals(1d / 12, metrics.getMissRate(), 1e-9);
+        assertEquals("greeting", metrics.getHottest(1).get(0).getKey());
+        MetricsRecorder.KeyMetrics greeting = metrics.getMetrics("greeting");
+        assertEquals(10, greeting.getTransforms());
+        assertEquals(10, greeting.getLatency().getCount());
+        assertEquals(10, greeting.getLookups());
+        assertEquals(1d, metrics.getMetrics("missing").getMissRate(), 1e-9);
+        //Keys that are only missed are tracked up to a limit
+        for (int i = 0; i < MetricsRecorder.MAX_MISSED_KEYS; i++)
+            registry.find("missing" + i);
+        assertEquals(MetricsRecorder.MAX_MISSED_KEYS, metrics.getKeys().size() - 2);
+        assertEquals(MetricsRecorder.MAX_MISSED_KEYS + 1, metrics.getMisses());
+    }
+
+    @Test
+    public void noop() {
+        Language language = new Language("Test", "test");
+        Message message = new Message("Hello {name}!", language);
+        assertEquals("Hello world!", message.transformWith(data -> data.bind("name", "world")));
+        assertFalse(language.getMetrics().isEnabled());
+    }
+
+    @Test
+    public void histogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) histogram.record(i * 1000L);
+        assertEquals(100, histogram.getCount());
+        assertEquals(50_500, histogram.getMean(), 1e-9);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 99_000 && p99 < 99_000 * 5 / 4);
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+        histogram.reset();
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+}
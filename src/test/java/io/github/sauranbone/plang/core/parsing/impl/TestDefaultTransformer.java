@@ -0,0 +1,151 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.error.DefaultErrorHandler;
+import io.github.sauranbone.plang.core.error.ParseError;
+import io.github.sauranbone.plang.core.error.ParseErrorType;
+import io.github.sauranbone.plang.core.map.DataBindMap;
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import io.github.sauranbone.plang.core.specific.MessageRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 15:59 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestDefaultTransformer {
+
+    @Test
+    public void precedence() {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        lexicon.set(Placeholder.of("user", User.class, u -> u.name));
+        Language language = new Language("Test", "test", lexicon);
+        Message message = new Message("{prefix} {user} {unknown}", language);
+        language.setErrorHandler(error -> { });
+        assertEquals("[Server] {user} {unknown}", message.transform());
+        assertEquals("[Server] alice {unknown}",
+                message.transform(DataBindMap.types(new User("alice"))));
+        DataBindMap data = DataBindMap.types(new User("alice"));
+        data.bind("USER", "bob");
+        assertEquals("[Server] bob {unknown}", message.transform(data));
+        data.bind(1, "carol");
+        data.bind("Unknown", "?");
+        assertEquals("[Server] carol ?", message.transform(data));
+        assertEquals("a b c", message.transform(DataBindMap.index("a", "b", "c")));
+    }
+
+    @Test
+    public void lexiconRevision() {
+        Lexicon lexicon = new Lexicon();
+        Language language = new Language("Test", "test", lexicon);
+        language.setErrorHandler(error -> { });
+        Message message = new Message("Hello {name}!", language);
+        assertEquals("Hello {name}!", message.transform());
+        CompiledMessage compiled = message.compile();
+        assertSame(compiled, message.compile());
+        lexicon.set(Placeholder.of("name", "world"));
+        assertNotSame(compiled, message.compile());
+        assertEquals("Hello world!", message.transform());
+        lexicon.remove("name");
+        assertEquals("Hello {name}!", message.transform());
+    }
+
+    @Test
+    public void knowledge() {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("lang", Language.class, Language::getName));
+        Language language = new Language("Test", "test", lexicon);
+        Message message = new Message("{lang}: {name}", language);
+        DataBindMap data = new DataBindMap();
+        data.bind("name", "x");
+        assertEquals("Test: x", message.transform(data));
+        assertEquals(1, data.size());
+        assertFalse(data.isBound(Language.class));
+        data.bindType(new Language("Other", "other"));
+        assertEquals("Other: x", message.transform(data));
+        IntStream.range(0, 1000).parallel().forEach(i -> assertEquals("Test: " + i,
+                message.transform(new DataBindMap().bind("name", i))));
+    }
+
+    @Test
+    public void estimatedLength() {
+        Language language = new Language("Test", "test", new Lexicon());
+        Message message = new Message("Hello {0}, welcome to {1}!", language);
+        CompiledMessage compiled = message.compile();
+        assertEquals("Hello , welcome to !".length(), message.getTokens().getLiteralLength());
+        assertEquals(compiled.getLiteralLength(), message.getTokens().getLiteralLength());
+        String motd = StringUtils.repeat('x', 500);
+        String result = message.transform(IndexedDataBinder.of("alice", motd));
+        assertTrue(compiled.getEstimatedLength() >= result.length());
+        assertTrue(compiled.getSlot(0).getLengthEstimate() < 16);
+        assertEquals(500, compiled.getSlot(1).getLengthEstimate());
+        //Shorter values only decay the estimate slowly
+        message.transform(IndexedDataBinder.of("alice", "x"));
+        assertTrue(compiled.getSlot(1).getLengthEstimate() > 400);
+    }
+
+    @Test
+    public void errors() {
+        Language language = new Language("Test", "test");
+        MessageRegistry registry = new MessageRegistry(language);
+        Message message = registry.set("greeting", "Hello {user}!").getMessage();
+        List<ParseError> errors = new ArrayList<>();
+        language.setErrorHandler(errors::add);
+        assertEquals("Hello {user}!", message.transform());
+        assertEquals(1, errors.size());
+        ParseError error = errors.get(0);
+        assertEquals(ParseErrorType.WARNING, error.getErrorType());
+        assertEquals("user", error.getPlaceholder());
+        assertEquals(0, error.getSlot());
+        assertEquals("greeting", error.getMessageKey());
+        assertEquals("placeholder user not bound", error.getMessage());
+        assertFalse(DefaultErrorHandler.SINGLETON.isEnabled(ParseErrorType.WARNING));
+        assertTrue(DefaultErrorHandler.SINGLETON.isEnabled(ParseErrorType.FATAL));
+        //Subclasses may handle non-breaking errors
+        assertTrue(new DefaultErrorHandler() {
+        }.isEnabled(ParseErrorType.WARNING));
+        ParseError legacy = new ParseError(ParseErrorType.WARNING, "legacy");
+        assertEquals("legacy", legacy.getMessage());
+        assertNull(legacy.getReason());
+    }
+
+    @Test
+    public void append() throws IOException {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        Language language = new Language("Test", "test", lexicon);
+        Message message = new Message("{prefix} Hello {0}!", language);
+        DataBindMap data = new DataBindMap();
+        data.bind(1, "alice");
+        StringBuilder builder = new StringBuilder(">");
+        assertSame(builder, message.transform(data, builder));
+        assertEquals(">[Server] Hello alice!", builder.toString());
+        StringWriter writer = new StringWriter();
+        message.transform(IndexedDataBinder.of(null, "bob"), writer).write('.');
+        assertEquals("[Server] Hello bob!.", writer.toString());
+    }
+
+    public static class User {
+        final String name;
+
+        public User(String name) {
+            this.name = name;
+        }
+    }
+
+}
@@ -0,0 +1,65 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.error.DefaultErrorHandler;
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+import io.github.sauranbone.plang.core.parsing.CompiledMessage;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.placeholder.PlaceholderModifier;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:14 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestFoldingParser {
+
+    @Test
+    public void folding() {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        Language language = new Language("Test", "test", lexicon, NormalLexer.DEFAULT_LEXER,
+                FoldingParser.SINGLETON, DefaultTransformer.SINGLETON, DefaultErrorHandler.SINGLETON);
+        language.setErrorHandler(error -> { });
+        Message message = new Message("{prefix} Hello {user}!", language);
+        assertTrue(message.getTokens().isFolding());
+        CompiledMessage compiled = message.compile();
+        assertEquals(1, compiled.getSlotCount());
+        assertEquals("[Server] Hello ", compiled.getLiteral(0));
+        //Indices are still counted among all placeholders
+        assertEquals(1, compiled.getSlot(0).getIndex());
+        assertEquals("[Server] Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+        assertEquals("[Server] Hello ".length() + 1, compiled.getLiteralLength());
+        //Lexicon mutations invalidate the folded form
+        lexicon.set(Placeholder.of("prefix", "[Lobby]"));
+        assertEquals("[Lobby] Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+        lexicon.remove("prefix");
+        assertEquals(2, message.compile().getSlotCount());
+        assertEquals("{prefix} Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+    }
+
+    @Test
+    public void modifiers() {
+        Lexicon lexicon = new Lexicon();
+        Placeholder<String> prefix = Placeholder.of("prefix", "[Server]");
+        lexicon.set(prefix);
+        Language language = new Language("Test", "test", lexicon, NormalLexer.DEFAULT_LEXER,
+                FoldingParser.SINGLETON, DefaultTransformer.SINGLETON, DefaultErrorHandler.SINGLETON);
+        language.setErrorHandler(error -> { });
+        Message message = new Message("{prefix} Hello {user}!", language);
+        assertEquals("[Server] Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+        //Modifier updates invalidate the folded form as well
+        prefix.disable(PlaceholderModifier.STATIC);
+        assertEquals("{prefix} Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+        assertEquals(2, message.compile().getSlotCount());
+        prefix.enable(PlaceholderModifier.STATIC);
+        assertEquals("[Server] Hello alice!", message.transform(IndexedDataBinder.of(null, "alice")));
+        assertEquals(1, message.compile().getSlotCount());
+    }
+
+}
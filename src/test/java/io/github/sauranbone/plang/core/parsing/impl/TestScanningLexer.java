@@ -0,0 +1,88 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.parsing.CompactTokens;
+import io.github.sauranbone.plang.core.parsing.MessageToken;
+import io.github.sauranbone.plang.core.parsing.ParsedTokens;
+import io.github.sauranbone.plang.core.specific.Language;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 15:55 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestScanningLexer {
+
+    private static final Language LANGUAGE = new Language("Test", "test");
+
+    @Test
+    public void tokenize() {
+        NormalLexer lexer = NormalLexer.DEFAULT_LEXER;
+        List<MessageToken> tokens = lexer.tokenize(LANGUAGE, "Welcome {userName}!");
+        assertEquals(3, tokens.size());
+        assertEquals("Welcome ", tokens.get(0).getRaw());
+        assertFalse(tokens.get(0).isPlaceholder());
+        assertEquals("{userName}", tokens.get(1).getRaw());
+        assertEquals("userName", tokens.get(1).getValue());
+        assertTrue(tokens.get(1).isPlaceholder());
+        assertEquals("!", tokens.get(2).getRaw());
+        assertTrue(lexer.tokenize(LANGUAGE, "").isEmpty());
+        assertTrue(lexer.tokenize(LANGUAGE, null).isEmpty());
+    }
+
+    @Test
+    public void compact() {
+        String content = "Welcome {userName}!";
+        List<MessageToken> tokens = NormalLexer.DEFAULT_LEXER.tokenize(LANGUAGE, content);
+        assertTrue(tokens instanceof CompactTokens);
+        CompactTokens compact = (CompactTokens) tokens;
+        assertSame(content, compact.getContent());
+        assertEquals(8, compact.getBegin(1));
+        assertEquals(18, compact.getEnd(1));
+        assertEquals("userName", compact.getValue(1));
+        ParsedTokens parsed = DefaultParser.SINGLETON.parse(LANGUAGE, tokens);
+        assertTrue(parsed.isCompact());
+        assertEquals(content, ParsedTokens.tokensToString(parsed));
+    }
+
+    @Test
+    public void equalToRegex() {
+        String[] samples = {"{a}", "{{a}}", "{}", "{a", "a}", "{a}{b}",
+                "x {a} y {b} z", "{.}", "{a.b}", "{ }", "}{a}{", "{{}}"};
+        for (String sample : samples) {
+            assertEqualTokens(NormalLexer.DEFAULT_LEXER, sample);
+        }
+        Random random = new Random(0);
+        NormalLexer[] lexers = {NormalLexer.DEFAULT_LEXER,
+                new NormalLexer("<%", "%>"), new NormalLexer("$", "$"),
+                new NormalLexer("{", ".}")};
+        String alphabet = "{}<>%$.ab ";
+        for (NormalLexer lexer : lexers) {
+            for (int i = 0; i < 2000; i++) {
+                StringBuilder sample = new StringBuilder();
+                for (int n = random.nextInt(24), j = 0; j < n; j++) {
+                    sample.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+                assertEqualTokens(lexer, sample.toString());
+            }
+        }
+    }
+
+    private static void assertEqualTokens(NormalLexer lexer, String content) {
+        RegexLexer reference = new RegexLexer(lexer.getLexeme()) {
+            @Override
+            protected String getValue(Language language, String raw) {
+                return lexer.getValue(language, raw);
+            }
+        };
+        assertEquals(content,
+                reference.tokenize(LANGUAGE, content).toString(),
+                lexer.tokenize(LANGUAGE, content).toString());
+    }
+
+}
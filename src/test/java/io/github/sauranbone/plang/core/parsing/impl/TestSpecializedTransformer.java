@@ -0,0 +1,83 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.error.DefaultErrorHandler;
+import io.github.sauranbone.plang.core.map.DataBindMap;
+import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.placeholder.PlaceholderModifier;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:00 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestSpecializedTransformer {
+
+    @Test
+    public void equalToDefault() throws IOException {
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        lexicon.set(Placeholder.of("user", TestDefaultTransformer.User.class, u -> u.name));
+        //Accepting a subtype, thus looked up by its top superclass as well
+        lexicon.set(Placeholder.of("number", Integer.class, i -> "#" + i));
+        Language language = new Language("Test", "test", lexicon, NormalLexer.DEFAULT_LEXER,
+                DefaultParser.SINGLETON, SpecializedTransformer.SINGLETON, DefaultErrorHandler.SINGLETON);
+        language.setErrorHandler(error -> { });
+        String[] contents = {"", "plain", "{prefix}", "{prefix} {user} {unknown}!",
+                "{user}{user}", "{0} {prefix} {1}", "{number} {user}"};
+        DataBindMap named = DataBindMap.types(new TestDefaultTransformer.User("alice"));
+        named.bind("USER", "bob");
+        DataBinder[] binders = {new DataBindMap(),
+                DataBindMap.types(new TestDefaultTransformer.User("alice")),
+                named, DataBindMap.index("a", "b", "c"), DataBindMap.types(42)};
+        for (String content : contents) {
+            Message message = new Message(content, language);
+            for (DataBinder data : binders) {
+                String expected = DefaultTransformer.SINGLETON.transform(
+                        message.getTokens(), language, content, data);
+                assertEquals(expected, message.transform(data));
+                assertEquals(expected, message.transform(data, new StringBuilder()).toString());
+                assertEquals(expected, message.transform(data, new StringWriter()).toString());
+            }
+        }
+    }
+
+    @Test
+    public void renderer() {
+        Lexicon lexicon = new Lexicon();
+        Language language = new Language("Test", "test", lexicon);
+        Message message = new Message("Hello {name}!", language);
+        SpecializedTransformer transformer = SpecializedTransformer.SINGLETON;
+        SpecializedTransformer.Renderer renderer = transformer.getRenderer(message.compile());
+        assertSame(renderer, transformer.getRenderer(message.compile()));
+        lexicon.set(Placeholder.of("name", "world"));
+        assertNotSame(renderer, transformer.getRenderer(message.compile()));
+        assertEquals("Hello world!", transformer.getRenderer(message.compile()).render(new DataBindMap()));
+    }
+
+    @Test
+    public void modifiers() {
+        Lexicon lexicon = new Lexicon();
+        Placeholder<String> name = Placeholder.of("name", "world");
+        lexicon.set(name);
+        Language language = new Language("Test", "test", lexicon, NormalLexer.DEFAULT_LEXER,
+                DefaultParser.SINGLETON, SpecializedTransformer.SINGLETON, DefaultErrorHandler.SINGLETON);
+        language.setErrorHandler(error -> { });
+        Message message = new Message("Hello {name}!", language);
+        assertEquals("Hello world!", message.transform(new DataBindMap()));
+        name.setModifier(PlaceholderModifier.STATIC, false);
+        assertEquals(DefaultTransformer.SINGLETON.transform(message.getTokens(), language,
+                message.getContent(), new DataBindMap()), message.transform(new DataBindMap()));
+        assertNotEquals("Hello world!", message.transform(new DataBindMap()));
+    }
+
+}
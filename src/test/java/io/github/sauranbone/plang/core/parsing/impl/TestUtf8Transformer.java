@@ -0,0 +1,67 @@
+package io.github.sauranbone.plang.core.parsing.impl;
+
+import io.github.sauranbone.plang.core.error.DefaultErrorHandler;
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+import io.github.sauranbone.plang.core.parsing.ByteSink;
+import io.github.sauranbone.plang.core.specific.Language;
+import io.github.sauranbone.plang.core.specific.Lexicon;
+import io.github.sauranbone.plang.core.specific.Message;
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author agent
+ * @version 16:10 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestUtf8Transformer {
+
+    private static final Language LANGUAGE = new Language("Test", "test", new Lexicon(),
+            NormalLexer.DEFAULT_LEXER, DefaultParser.SINGLETON, Utf8Transformer.SINGLETON,
+            DefaultErrorHandler.SINGLETON);
+
+    @Test
+    public void encode() {
+        String[] samples = {"", "plain", "Gr\u00FC\u00DFe", "\u20AC 5", "\uD83D\uDE00 smile",
+                "lone \uD800 high", "lone \uDC00 low", "end \uD83D"};
+        for (String sample : samples) {
+            ByteBuffer buffer = ByteBuffer.allocate(64);
+            ByteSink.encodeUtf8(sample, buffer);
+            assertArrayEquals(sample, sample.getBytes(StandardCharsets.UTF_8),
+                    Arrays.copyOf(buffer.array(), buffer.position()));
+        }
+        long[] numbers = {0, 7, -7, 10, 1234567890L, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long number : numbers) {
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+            String expected = Long.toString(number);
+            assertEquals(expected.length(), ByteSink.encodeDecimal(number, buffer));
+            assertArrayEquals(expected.getBytes(StandardCharsets.US_ASCII),
+                    Arrays.copyOf(buffer.array(), buffer.position()));
+        }
+    }
+
+    @Test
+    public void transform() {
+        Message message = new Message("Gr\u00FC\u00DFe {0}, \u00E7a va? {1} {2}", LANGUAGE);
+        IndexedDataBinder data = IndexedDataBinder.of("J\u00FCrgen", "\uD83D\uDE00", -42L);
+        byte[] expected = message.transform(data).getBytes(StandardCharsets.UTF_8);
+        ByteSink sink = new ByteSink(1);
+        assertArrayEquals(expected, message.transform(data, sink).toByteArray());
+        assertEquals(expected.length, sink.toByteBuffer().remaining());
+        ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+        message.transform(data, buffer);
+        assertArrayEquals(expected, buffer.array());
+        assertThrows(BufferOverflowException.class,
+                () -> message.transform(data, ByteBuffer.allocate(expected.length - 1)));
+        Message plain = new Message("plain", new Language("Other", "other"));
+        assertEquals("plain", new String(plain.transform(data, new ByteSink()).toByteArray(),
+                StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.github.sauranbone.plang.core.specific;
+
+import io.github.sauranbone.plang.core.map.DataBindMap;
+import io.github.sauranbone.plang.core.map.DataBinder;
+import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Regression test of the bytes allocated per transformation of a message,
+ * which fails once a change pushes the allocation of a representative
+ * template above its recorded budget.
+ * <p>The allocation is measured using the allocated bytes of the current
+ * thread after the transformation has been warmed up, and the test is
+ * skipped on virtual machines not supporting that measurement.  Budgets
+ * are recorded with headroom, so that they only fail on actual regressions
+ * rather than noise, and must be lowered whenever allocation is reduced.
+ * Every budget includes the resulting string and its builder.
+ *
+ * @author agent
+ * @version 16:27 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestAllocationBudget {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 10_000;
+
+    private com.sun.management.ThreadMXBean threads;
+    private Language language;
+
+    @Before
+    public void setup() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        Lexicon lexicon = new Lexicon();
+        lexicon.set(Placeholder.of("prefix", "[Server]"));
+        lexicon.set(Placeholder.of("user", User.class, user -> user.name));
+        language = new Language("Test", "test", lexicon);
+        language.setErrorHandler(error -> { });
+    }
+
+    @Test
+    public void index() {
+        Message message = new Message("Hello {0}, you are {1} years old!", language);
+        assertBudget(288, message, DataBindMap.index("Vinzent", 21));
+    }
+
+    @Test
+    public void named() {
+        Message message = new Message("Hello {name}, you are {age} years old!", language);
+        assertBudget(288, message, new DataBindMap().bind("name", "Vinzent").bind("age", 21));
+    }
+
+    @Test
+    public void transformative() {
+        Message message = new Message("Hello {user}, welcome back!", language);
+        assertBudget(208, message, DataBindMap.types(new User("Vinzent")));
+    }
+
+    @Test
+    public void statics() {
+        Message message = new Message("{prefix} Hello world, {prefix}!", language);
+        assertBudget(208, message, new DataBindMap());
+    }
+
+    private void assertBudget(long budget, Message message, DataBinder data) {
+        String expected = message.transform(data);
+        for (int i = 0; i < WARMUP; i++) message.transform(data);
+        final long thread = Thread.currentThread().getId();
+        long start = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < ITERATIONS; i++) message.transform(data);
+        long allocated = (threads.getThreadAllocatedBytes(thread) - start) / ITERATIONS;
+        assertTrue("Allocated " + allocated + " bytes per transformation of \""
+                + expected + "\", exceeding the budget of " + budget, allocated <= budget);
+    }
+
+    private static final class User {
+        final String name;
+
+        User(String name) {
+            this.name = name;
+        }
+    }
+
+}
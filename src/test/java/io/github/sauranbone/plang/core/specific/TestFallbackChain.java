@@ -0,0 +1,53 @@
+package io.github.sauranbone.plang.core.specific;
+
+import io.github.sauranbone.plang.core.exception.MessageNotFoundException;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+/**
+ * @author agent
+ * @version 16:20 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestFallbackChain {
+
+    @Test
+    public void fallback() {
+        Language british = new Language("British", "en-GB");
+        Language english = new Language("English", "en");
+        british.setContent(new MessageRegistry(british));
+        english.setContent(new MessageRegistry(english));
+        british.getRegistry().set("colour", "Colour");
+        english.getRegistry().set("colour", "Color");
+        english.getRegistry().set("greeting", "Hello");
+        FallbackChain chain = new FallbackChain(british, english);
+        assertEquals("Colour", chain.get("colour").getContent());
+        assertEquals("Hello", chain.get("greeting").getContent());
+        assertFalse(chain.find("missing").isPresent());
+        assertFalse(british.getRegistry().find("greeting").isPresent());
+        //Removed messages are never returned from a memoized position
+        english.setContent(new MessageRegistry(english));
+        assertNull(chain.get("greeting", null));
+        //Misses are not memoized, thus found once added
+        english.getRegistry().set("missing", "Found");
+        assertEquals("Found", chain.get("missing").getContent());
+        //Messages added to a preceding registry take precedence at once
+        british.getRegistry().set("missing", "Found too");
+        assertEquals("Found too", chain.get("missing").getContent());
+        british.getRegistry().setAll(Collections.singletonMap("greeting", "Hi"));
+        english.getRegistry().set("greeting", "Hello");
+        assertEquals("Hi", chain.get("greeting").getContent());
+    }
+
+    @Test(expected = MessageNotFoundException.class)
+    public void notFound() {
+        Language english = new Language("English", "en");
+        english.setContent(new MessageRegistry(english));
+        new FallbackChain(english).get("missing");
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.github.sauranbone.plang.core.specific;
 
 import io.github.sauranbone.plang.core.placeholder.Placeholder;
+import io.github.sauranbone.plang.core.placeholder.PlaceholderModifier;
 
 import static org.junit.Assert.*;
 
@@ -24,4 +25,30 @@ public class TestLexicon {
         assertEquals("bar", lexicon.get("foo").transform(null));
     }
 
+    @Test
+    public void concurrent() {
+        Lexicon lexicon = new Lexicon(false, true);
+        assertTrue(lexicon.isConcurrent());
+        assertFalse(new Lexicon().isConcurrent());
+        int revision = lexicon.getRevision();
+        lexicon.set(Placeholder.of("foo", "bar"));
+        assertTrue(lexicon.has("foo"));
+        assertEquals("bar", lexicon.get("foo").transform(null));
+        assertNull(lexicon.remove(null));
+        assertNotNull(lexicon.remove("foo"));
+        assertFalse(lexicon.has("foo"));
+        assertTrue(lexicon.getRevision() > revision);
+    }
+
+    @Test
+    public void modifiers() {
+        Lexicon lexicon = new Lexicon();
+        Placeholder<String> foo = Placeholder.of("foo", "bar");
+        lexicon.set(foo);
+        int revision = lexicon.getRevision();
+        foo.disable(PlaceholderModifier.STATIC);
+        assertFalse(foo.isStatic());
+        assertNotEquals(revision, lexicon.getRevision());
+    }
+
 }
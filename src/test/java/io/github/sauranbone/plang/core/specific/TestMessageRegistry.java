@@ -0,0 +1,68 @@
+package io.github.sauranbone.plang.core.specific;
+
+import io.github.sauranbone.plang.core.map.IndexedDataBinder;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * @author agent
+ * @version 16:15 CEST, 17.10.2026
+ * @since 1.0
+ */
+public class TestMessageRegistry {
+
+    @Test
+    public void lazyParsing() {
+        Language language = new Language("Test", "test");
+        MessageRegistry registry = new MessageRegistry(language);
+        assertFalse(registry.isLazyParsing());
+        assertTrue(registry.set("eager", "Hello {0}").getMessage().isParsed());
+        registry.setLazyParsing(true);
+        Message message = registry.set("lazy", "Hello {0}").getMessage();
+        assertFalse(message.isParsed());
+        //Concurrent first uses publish the same tokens
+        assertEquals(1, IntStream.range(0, 64).parallel()
+                .mapToObj(i -> message.getTokens()).distinct().count());
+        assertTrue(message.isParsed());
+        assertEquals("Hello alice", message.transform(IndexedDataBinder.of("alice")));
+        registry.setLazyParsing(false);
+        language.setLazyParsing(true);
+        assertTrue(registry.isLazyParsing());
+        assertFalse(new Message("{0}", language).isParsed());
+    }
+
+    @Test
+    public void setAll() {
+        Language language = new Language("Test", "test");
+        MessageRegistry registry = new MessageRegistry(language, true);
+        Map<String, String> contents = new HashMap<>();
+        for (int i = 0; i < 1000; i++) contents.put("key" + i, "Message {0} #" + i);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<MessagePair> pairs;
+        try {
+            pairs = registry.setAll(contents, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(1000, pairs.size());
+        assertEquals(1000, registry.getMap().size());
+        assertEquals("Message a #42", registry.get("key42").transform(IndexedDataBinder.of("a")));
+        //Nothing is bound if any pair cannot be allocated
+        contents.put("", "invalid");
+        try {
+            registry.setAll(contents);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(1000, registry.getMap().size());
+        }
+    }
+
+}